@@ -0,0 +1,354 @@
+package com.github.jelatinone.scholarfind;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+/**
+ *
+ * <h1>FixtureServer</h1>
+ *
+ * <p>
+ * Serves a synthetic scholarship site and an OpenAI compatible agent from the
+ * loopback address, so that a Task graph may be run end to end without network
+ * access or API spend.
+ * </p>
+ *
+ * <ul>
+ * <li>`GET /listing` lists an anchor to every scholarship</li>
+ * <li>`GET /scholarships/{index}` describes a single scholarship, padded to the
+ * configured page size, after the configured latency, failing with a `500` at
+ * the configured error rate</li>
+ * <li>`POST /v1/chat/completions` answers every structured completion after the
+ * configured agent latency, with an annotation when asked for a scholarship
+ * and a verdict otherwise, failing with a `429` at the configured error
+ * rate</li>
+ * </ul>
+ *
+ * <p>
+ * Every third scholarship closed yesterday, so that it is skipped by the filter
+ * without consulting the agent, and every other scholarship which is open is
+ * accepted by the agent.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+final class FixtureServer implements AutoCloseable {
+	static String LISTING_PATH = "/listing";
+	static String SCHOLARSHIP_PATH = "/scholarships/";
+	static String AGENT_PATH = "/v1";
+	static String FILLER = "Applicants must describe their academic goals and community involvement. ";
+
+	static Pattern INDEX = Pattern.compile("Scholarship (\\d+)");
+	static ObjectMapper _mapper = new ObjectMapper();
+
+	HttpServer server;
+	ExecutorService handlers;
+	Random random;
+
+	int scholarships;
+	int pageSize;
+	Duration latency;
+	Duration agentLatency;
+	double errorRate;
+
+	AtomicLong pages = new AtomicLong();
+	AtomicLong completions = new AtomicLong();
+	AtomicLong failures = new AtomicLong();
+
+	/**
+	 * FixtureServer Constructor.
+	 *
+	 * @param scholarships Number of scholarships listed
+	 * @param pageSize     Minimum size, in bytes, of each scholarship page
+	 * @param latency      Time taken to serve each scholarship page
+	 * @param agentLatency Time taken to answer each completion
+	 * @param errorRate    Fraction, between 0 and 1, of scholarship pages and
+	 *                     completions which fail
+	 * @param seed         Seed of the failures injected
+	 * @throws IOException When no loopback port can be bound
+	 */
+	FixtureServer(
+			final int scholarships,
+			final int pageSize,
+			final @NonNull Duration latency,
+			final @NonNull Duration agentLatency,
+			final double errorRate,
+			final long seed) throws IOException {
+		if (errorRate < 0.0 || errorRate > 1.0) {
+			throw new IllegalArgumentException(String.format("Invalid error rate : %f", errorRate));
+		}
+		this.scholarships = scholarships;
+		this.pageSize = pageSize;
+		this.latency = latency;
+		this.agentLatency = agentLatency;
+		this.errorRate = errorRate;
+		random = new Random(seed);
+
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		handlers = Executors.newVirtualThreadPerTaskExecutor();
+		server.setExecutor(handlers);
+		server.createContext(LISTING_PATH, (exchange) -> handle(exchange, this::listing));
+		server.createContext(SCHOLARSHIP_PATH, (exchange) -> handle(exchange, this::scholarship));
+		server.createContext(AGENT_PATH, (exchange) -> handle(exchange, this::completion));
+	}
+
+	/**
+	 * Starts serving requests.
+	 */
+	void start() {
+		server.start();
+	}
+
+	/**
+	 * Provides the URL of the page listing every scholarship.
+	 *
+	 * @return URL of the listing
+	 */
+	String getListing() {
+		return String.format("http://%s:%d%s", server.getAddress().getHostString(), server.getAddress().getPort(),
+				LISTING_PATH);
+	}
+
+	/**
+	 * Provides the base URL of the OpenAI compatible agent.
+	 *
+	 * @return Base URL of the agent
+	 */
+	String getAgent() {
+		return String.format("http://%s:%d%s", server.getAddress().getHostString(), server.getAddress().getPort(),
+				AGENT_PATH);
+	}
+
+	/**
+	 * Provides the number of scholarship pages served, including failures.
+	 *
+	 * @return Number of scholarship pages served
+	 */
+	long getPages() {
+		return pages.get();
+	}
+
+	/**
+	 * Provides the number of completions answered, including failures.
+	 *
+	 * @return Number of completions answered
+	 */
+	long getCompletions() {
+		return completions.get();
+	}
+
+	/**
+	 * Provides the number of failures injected.
+	 *
+	 * @return Number of failed responses
+	 */
+	long getFailures() {
+		return failures.get();
+	}
+
+	/**
+	 * Responds to a request, closing the exchange once done.
+	 *
+	 * @param exchange Exchange of the request
+	 * @param route    Handler of the request
+	 * @throws IOException When the response can not be written
+	 */
+	private void handle(final HttpExchange exchange, final Route route) throws IOException {
+		try {
+			route.respond(exchange);
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Lists an anchor to every scholarship.
+	 *
+	 * @param exchange Exchange of the request
+	 * @throws IOException When the response can not be written
+	 */
+	private void listing(final HttpExchange exchange) throws IOException {
+		final StringBuilder content = new StringBuilder("<html><body><h1>Scholarships</h1><ul>");
+		for (int index = 0; index < scholarships; index++) {
+			content.append(String.format("<li><a href=\"%s%d\">Scholarship %d</a></li>", SCHOLARSHIP_PATH, index,
+					index));
+		}
+		content.append("</ul></body></html>");
+		respond(exchange, 200, "text/html", content.toString());
+	}
+
+	/**
+	 * Describes a single scholarship.
+	 *
+	 * @param exchange Exchange of the request
+	 * @throws IOException          When the response can not be written
+	 * @throws InterruptedException When interrupted while delaying the response
+	 */
+	private void scholarship(final HttpExchange exchange) throws IOException, InterruptedException {
+		pages.incrementAndGet();
+		Thread.sleep(latency);
+		if (failed()) {
+			respond(exchange, 500, "text/html", "<html><body>Internal Server Error</body></html>");
+			return;
+		}
+		final String index = exchange.getRequestURI().getPath().substring(SCHOLARSHIP_PATH.length());
+		final StringBuilder content = new StringBuilder(String.format(
+				"<html><body><h1>Scholarship %s</h1><p>Offered by the Example Foundation.</p>", index));
+		while (content.length() < pageSize) {
+			content.append("<p>").append(FILLER).append("</p>");
+		}
+		content.append("</body></html>");
+		respond(exchange, 200, "text/html", content.toString());
+	}
+
+	/**
+	 * Answers a structured completion, with an annotation of a scholarship when
+	 * the requested schema describes one, otherwise with a verdict.
+	 *
+	 * @param exchange Exchange of the request
+	 * @throws IOException          When the request can not be read or the
+	 *                              response written
+	 * @throws InterruptedException When interrupted while delaying the response
+	 */
+	private void completion(final HttpExchange exchange) throws IOException, InterruptedException {
+		completions.incrementAndGet();
+		final JsonNode request;
+		try (InputStream body = exchange.getRequestBody()) {
+			request = _mapper.readTree(body);
+		}
+		Thread.sleep(agentLatency);
+		if (failed()) {
+			final ObjectNode error = _mapper.createObjectNode();
+			error.putObject("error")
+					.put("message", "Rate limit reached")
+					.put("type", "requests")
+					.put("code", "rate_limit_exceeded");
+			respond(exchange, 429, "application/json", _mapper.writeValueAsString(error));
+			return;
+		}
+
+		final String content = request.path("messages").path(request.path("messages").size() - 1)
+				.path("content").asText();
+		final Matcher matcher = INDEX.matcher(content);
+		final int index = matcher.find() ? Integer.parseInt(matcher.group(1)) : 0;
+		final ObjectNode answer = _mapper.createObjectNode();
+		if (request.path("response_format").path("json_schema").path("schema").path("properties")
+				.has("scholarshipTitle")) {
+			final LocalDate today = LocalDate.now();
+			answer.put("scholarshipTitle", String.format("Scholarship %d", index))
+					.put("organizationName", "Example Foundation")
+					.put("award", 500.0 + index * 10)
+					.put("open", today.minusDays(30).toString())
+					.put("close", (index % 3 == 0 ? today.minusDays(1) : today.plusDays(30)).toString());
+			answer.putArray("pursued");
+			answer.putArray("education");
+			answer.putArray("supplements");
+			answer.putArray("requirements").add("Enrolled full time");
+		} else {
+			answer.put("value", index % 2 == 0);
+		}
+
+		final ObjectNode completion = _mapper.createObjectNode()
+				.put("id", String.format("chatcmpl-%d", completions.get()))
+				.put("object", "chat.completion")
+				.put("created", Instant.now().getEpochSecond())
+				.put("model", request.path("model").asText());
+		final ObjectNode choice = completion.putArray("choices").addObject()
+				.put("index", 0)
+				.put("finish_reason", "stop")
+				.putNull("logprobs");
+		choice.putObject("message")
+				.put("role", "assistant")
+				.put("content", _mapper.writeValueAsString(answer))
+				.putNull("refusal");
+		completion.putObject("usage")
+				.put("prompt_tokens", content.length() / 4)
+				.put("completion_tokens", 32)
+				.put("total_tokens", content.length() / 4 + 32);
+		respond(exchange, 200, "application/json", _mapper.writeValueAsString(completion));
+	}
+
+	/**
+	 * Provides whether to inject a failure into a response.
+	 *
+	 * @return True at the configured error rate
+	 */
+	private boolean failed() {
+		if (random.nextDouble() < errorRate) {
+			failures.incrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Writes a response.
+	 *
+	 * @param exchange    Exchange to respond to
+	 * @param status      HTTP status of the response
+	 * @param contentType Content type of the response
+	 * @param body        Body of the response
+	 * @throws IOException When the response can not be written
+	 */
+	private static void respond(final HttpExchange exchange, final int status, final String contentType,
+			final String body) throws IOException {
+		final byte[] content = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", String.format("%s; charset=utf-8", contentType));
+		exchange.sendResponseHeaders(status, content.length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(content);
+		}
+	}
+
+	/**
+	 * Stops serving requests.
+	 */
+	@Override
+	public void close() {
+		server.stop(0);
+		handlers.shutdown();
+	}
+
+	/**
+	 * Responds to a request routed to it.
+	 */
+	@FunctionalInterface
+	private static interface Route {
+
+		/**
+		 * Responds to a request.
+		 *
+		 * @param exchange Exchange of the request
+		 * @throws IOException          When the request can not be read or the
+		 *                              response written
+		 * @throws InterruptedException When interrupted while responding
+		 */
+		void respond(final HttpExchange exchange) throws IOException, InterruptedException;
+	}
+}
@@ -0,0 +1,219 @@
+package com.github.jelatinone.scholarfind;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import com.github.jelatinone.scholarfind.agent.implementation.OpenAIAgentHandler;
+import com.github.jelatinone.scholarfind.meta.Histogram;
+import com.github.jelatinone.scholarfind.meta.Metrics;
+import com.github.jelatinone.scholarfind.meta.Task;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+/**
+ *
+ * <h1>LoadHarness</h1>
+ *
+ * <p>
+ * Runs `search`, `annotate` and `filter`, piped one into the next, against a
+ * local {@link FixtureServer}, then reports the throughput and latency of each
+ * task, so that changes may be load tested reproducibly without network access
+ * or API spend.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class LoadHarness {
+	static Logger _logger = Logger.getLogger(LoadHarness.class.getName());
+
+	static CommandLineParser _parser = new DefaultParser();
+	static Options _config = new Options();
+
+	static Integer DEFAULT_SCHOLARSHIPS = 200;
+	static Integer DEFAULT_PAGE_SIZE = 16384;
+	static Long DEFAULT_LATENCY = 20L;
+	static Long DEFAULT_AGENT_LATENCY = 200L;
+	static Double DEFAULT_ERROR_RATE = 0.01;
+	static Integer DEFAULT_CONCURRENCY = 16;
+	static Long DEFAULT_SEED = 0L;
+	static String DEFAULT_PROFILE = "Any undergraduate student enrolled full time.";
+
+	static {
+		Option opt_scholarships = Option.builder()
+				.longOpt("scholarships")
+				.hasArg()
+				.desc("number of scholarships listed by the fixture site")
+				.converter(Integer::valueOf)
+				.get();
+		_config.addOption(opt_scholarships);
+		Option opt_pageSize = Option.builder()
+				.longOpt("pageSize")
+				.hasArg()
+				.desc("minimum size (bytes) of each scholarship page")
+				.converter(Integer::valueOf)
+				.get();
+		_config.addOption(opt_pageSize);
+		Option opt_latency = Option.builder()
+				.longOpt("latency")
+				.hasArg()
+				.desc("time (milliseconds) taken to serve each scholarship page")
+				.converter(Long::valueOf)
+				.get();
+		_config.addOption(opt_latency);
+		Option opt_agentLatency = Option.builder()
+				.longOpt("agentLatency")
+				.hasArg()
+				.desc("time (milliseconds) taken to answer each agent request")
+				.converter(Long::valueOf)
+				.get();
+		_config.addOption(opt_agentLatency);
+		Option opt_errorRate = Option.builder()
+				.longOpt("errorRate")
+				.hasArg()
+				.desc("fraction of scholarship pages and agent requests which fail")
+				.converter(Double::valueOf)
+				.get();
+		_config.addOption(opt_errorRate);
+		Option opt_concurrency = Option.builder()
+				.longOpt("concurrency")
+				.hasArg()
+				.desc("number of operands in flight at once for annotate and filter")
+				.converter(Integer::valueOf)
+				.get();
+		_config.addOption(opt_concurrency);
+		Option opt_seed = Option.builder()
+				.longOpt("seed")
+				.hasArg()
+				.desc("seed of the failures injected by the fixture site")
+				.converter(Long::valueOf)
+				.get();
+		_config.addOption(opt_seed);
+		Option opt_adaptive = Option.builder()
+				.longOpt("adaptive")
+				.desc("adapt the number of operands in flight to the health of the fixture site")
+				.get();
+		_config.addOption(opt_adaptive);
+	}
+
+	public static void main(final String... arguments) throws IOException {
+		final CommandLine command;
+		try {
+			command = _parser.parse(_config, arguments);
+		} catch (final ParseException exception) {
+			_logger.severe(String.format("LoadHarness :: Could not parse argument(s) : %s", exception.getMessage()));
+			return;
+		}
+		final int scholarships = valueOf(command, "scholarships", DEFAULT_SCHOLARSHIPS);
+		final int concurrency = valueOf(command, "concurrency", DEFAULT_CONCURRENCY);
+		final Path directory = Files.createTempDirectory("load-harness");
+		final Path profile = Files.writeString(directory.resolve("profile.txt"), DEFAULT_PROFILE);
+
+		try (FixtureServer fixture = new FixtureServer(
+				scholarships,
+				valueOf(command, "pageSize", DEFAULT_PAGE_SIZE),
+				Duration.ofMillis(valueOf(command, "latency", DEFAULT_LATENCY)),
+				Duration.ofMillis(valueOf(command, "agentLatency", DEFAULT_AGENT_LATENCY)),
+				valueOf(command, "errorRate", DEFAULT_ERROR_RATE),
+				valueOf(command, "seed", DEFAULT_SEED))) {
+			fixture.start();
+			System.setProperty(OpenAIAgentHandler.DEFAULT_PROPERTY_BASE_URL, fixture.getAgent());
+			System.setProperty(OpenAIAgentHandler.DEFAULT_PROPERTY_API_KEY, "load-harness");
+
+			final List<String> graph = new ArrayList<>(List.of(
+					"--executorType", "virtual",
+					"--pipe",
+					"--task",
+					"search",
+					"--from", fixture.getListing(),
+					"--to", directory.resolve("search.json").toString(),
+					"annotate",
+					"--agent", "chat_gpt",
+					"--concurrency", Integer.toString(concurrency),
+					"--to", directory.resolve("annotate.json").toString()));
+			if (command.hasOption("adaptive")) {
+				graph.add("--adaptive");
+			}
+			graph.addAll(List.of(
+					"filter",
+					"--agent", "chat_gpt",
+					"--profile", profile.toString(),
+					"--concurrency", Integer.toString(concurrency),
+					"--to", directory.resolve("filter.json").toString()));
+			if (command.hasOption("adaptive")) {
+				graph.add("--adaptive");
+			}
+
+			_logger.info(String.format("LoadHarness :: Running %d scholarships from %s into %s", scholarships,
+					fixture.getListing(), directory));
+			final long started = System.nanoTime();
+			Main.main(graph.toArray(String[]::new));
+			final Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+			report(Main.getGraph(), elapsed, fixture);
+		}
+	}
+
+	/**
+	 * Prints the throughput and latency of each task of a Task graph, and the
+	 * requests served by the fixture site.
+	 *
+	 * @param tasks   Every task of the Task graph
+	 * @param elapsed Time taken to run the Task graph
+	 * @param fixture Fixture site the Task graph ran against
+	 */
+	private static void report(final List<Task<?, ?>> tasks, final Duration elapsed, final FixtureServer fixture) {
+		final double seconds = Math.max(elapsed.toNanos(), 1) / 1e9;
+		System.out.println();
+		System.out.println(String.format("Task graph finished in %.2fs", seconds));
+		System.out.println(String.format("%-10s %-10s %10s %10s %10s %12s %12s %12s", "task", "state", "processed",
+				"failed", "retried", "operands/s", "p50", "p99"));
+		for (final Task<?, ?> task : tasks) {
+			final Metrics metrics = task.getMetrics();
+			final Histogram latency = metrics.getOperateLatency();
+			System.out.println(String.format("%-10s %-10s %10d %10d %10d %12.2f %12s %12s",
+					task.getIdentifier(),
+					task.getState(),
+					metrics.getProcessed(),
+					metrics.getFailed(),
+					metrics.getRetried(),
+					metrics.getProcessed() / seconds,
+					latency.percentile(0.50),
+					latency.percentile(0.99)));
+		}
+		System.out.println(String.format("Fixture served %d page(s) and %d completion(s), injecting %d failure(s)",
+				fixture.getPages(), fixture.getCompletions(), fixture.getFailures()));
+	}
+
+	/**
+	 * Provides the parsed value of an option, or a default when not given.
+	 *
+	 * @param <Value>  Type of value of the option
+	 * @param command  Parsed command line
+	 * @param option   Long name of the option
+	 * @param fallback Default value of the option
+	 * @return Parsed value of the option, or the default
+	 */
+	private static <Value> Value valueOf(final CommandLine command, final String option, final Value fallback) {
+		try {
+			final Value value = command.getParsedOptionValue(option);
+			return value != null ? value : fallback;
+		} catch (final ParseException exception) {
+			throw new IllegalArgumentException(String.format("Invalid %s : %s", option, exception.getMessage()),
+					exception);
+		}
+	}
+}
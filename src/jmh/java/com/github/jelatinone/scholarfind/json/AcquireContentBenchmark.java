@@ -0,0 +1,112 @@
+package com.github.jelatinone.scholarfind.json;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ *
+ * <h1>AcquireContentBenchmark</h1>
+ *
+ * <p>
+ * Measures reading every result of a results file of 1,000 and 100,000
+ * annotated documents, both {@link JsonHandler#acquireContent(File, ObjectMapper)
+ * at once} and {@link JsonHandler#streamContent(File, ObjectMapper) one result
+ * at a time}, whether as trees or {@link JsonHandler#streamContent(File,
+ * ObjectMapper, Class) bound} directly into records.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+public class AcquireContentBenchmark {
+
+	record Result(
+			String url,
+			String name,
+			String organization,
+			double award,
+			String open,
+			String close,
+			List<String> requirements) {
+	}
+
+	@Param({ "1000", "100000" })
+	int results;
+
+	ObjectMapper mapper;
+	File file;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		mapper = new ObjectMapper();
+		file = Files.createTempFile("acquire-content", ".json").toFile();
+		final JsonHandler<ObjectNode> handler = JsonHandler.acquireWriter(file.getPath(),
+				(generator, document) -> generator.writeTree(document));
+		try (handler) {
+			for (int index = 0; index < results; index++) {
+				final ObjectNode result = mapper.createObjectNode()
+						.put("url", String.format("https://example.org/scholarships/%d", index))
+						.put("name", String.format("Scholarship %d", index))
+						.put("organization", "Example Foundation")
+						.put("award", 1000.0 + index)
+						.put("open", "2025-01-01")
+						.put("close", "2025-12-31");
+				result.putArray("requirements")
+						.add("Enrolled full time")
+						.add("Minimum GPA of 3.0");
+				handler.writeDocument(result);
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file.toPath());
+	}
+
+	@Benchmark
+	public int acquireContent() throws IOException {
+		return JsonHandler.acquireContent(file, mapper).size();
+	}
+
+	@Benchmark
+	public void streamContent(final Blackhole blackhole) throws IOException {
+		try (JsonReader<JsonNode> reader = JsonHandler.streamContent(file, mapper)) {
+			reader.forEachRemaining((Object result) -> blackhole.consume(result));
+		}
+	}
+
+	@Benchmark
+	public void streamTyped(final Blackhole blackhole) throws IOException {
+		try (JsonReader<Result> reader = JsonHandler.streamContent(file, mapper, Result.class)) {
+			reader.forEachRemaining((Object result) -> blackhole.consume(result));
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.github.jelatinone.scholarfind.json;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ *
+ * <h1>ChunkedReadBenchmark</h1>
+ *
+ * <p>
+ * Measures reading every result of a {@link JsonFormat#NDJSON newline
+ * delimited} results file of 1,000,000 annotated documents on one thread, line
+ * by line, against several threads, in {@link ChunkedReader memory mapped
+ * chunks} yielded in order or as soon as they are parsed.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkedReadBenchmark {
+	static final int RESULTS = 1_000_000;
+
+	@Param({ "1", "4" })
+	int parallelism;
+
+	@Param({ "true", "false" })
+	boolean ordered;
+
+	ObjectMapper mapper;
+	File file;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		mapper = new ObjectMapper();
+		file = Files.createTempFile("chunked-read", JsonFormat.NDJSON.getExtension()).toFile();
+		Files.delete(file.toPath());
+		final JsonHandler<ObjectNode> handler = JsonHandler.acquireWriter(file.getPath(),
+				(generator, document) -> generator.writeTree(document), JsonFormat.NDJSON,
+				new GroupCommit(Durability.NONE, RESULTS, Duration.ZERO));
+		try (handler) {
+			for (int index = 0; index < RESULTS; index++) {
+				final ObjectNode result = mapper.createObjectNode()
+						.put("url", String.format("https://example.org/scholarships/%d", index))
+						.put("name", String.format("Scholarship %d", index))
+						.put("organization", "Example Foundation")
+						.put("award", 1000.0 + index)
+						.put("open", "2025-01-01")
+						.put("close", "2025-12-31");
+				result.putArray("requirements")
+						.add("Enrolled full time")
+						.add("Minimum GPA of 3.0");
+				handler.writeDocument(result);
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file.toPath());
+	}
+
+	@Benchmark
+	public void streamContent(final Blackhole blackhole) throws IOException {
+		try (JsonReader<JsonNode> reader = JsonHandler.streamContent(file, mapper, JsonNode.class, parallelism,
+				ordered)) {
+			reader.forEachRemaining((Object result) -> blackhole.consume(result));
+		}
+	}
+}
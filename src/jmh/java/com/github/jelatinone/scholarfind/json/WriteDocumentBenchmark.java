@@ -0,0 +1,121 @@
+package com.github.jelatinone.scholarfind.json;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.jelatinone.scholarfind.models.SearchDocument;
+
+/**
+ *
+ * <h1>WriteDocumentBenchmark</h1>
+ *
+ * <p>
+ * Measures {@link JsonHandler#writeDocument(Object) writing a document} with a
+ * {@link JsonSerializer}, against {@link JsonHandler#writeDocument(com.fasterxml.jackson.databind.JsonNode)
+ * writing} the same content as a tree, each committed to a file recreated every
+ * iteration either one at a time or in groups.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriteDocumentBenchmark {
+	static final int RETRIEVED = 8;
+
+	static final JsonSerializer<SearchDocument> _serializer = (generator, document) -> {
+		generator.writeStartObject();
+		generator.writeStringField("source", document.source());
+		generator.writeStringField("date", document.date());
+		generator.writeStringField("time", document.time());
+
+		generator.writeFieldName("retrieved");
+		generator.writeStartArray();
+		for (URL value : document.retrieved()) {
+			generator.writeString(value.toString());
+		}
+		generator.writeEndArray();
+
+		generator.writeEndObject();
+	};
+
+	@Param({ "FLUSH", "NONE" })
+	Durability durability;
+
+	@Param({ "1", "64" })
+	int commitSize;
+
+	SearchDocument document;
+	ObjectNode node;
+
+	Path destination;
+	JsonHandler<SearchDocument> handler;
+
+	@Setup(Level.Trial)
+	public void setupDocument() throws MalformedURLException {
+		final List<URL> retrieved = new ArrayList<>();
+		for (int index = 0; index < RETRIEVED; index++) {
+			retrieved.add(URI.create(String.format("https://example.org/scholarships/%d", index)).toURL());
+		}
+		document = new SearchDocument("https://example.org/scholarships", "2025-01-01", "12:00:00", retrieved);
+
+		node = new ObjectMapper().createObjectNode()
+				.put("source", document.source())
+				.put("date", document.date())
+				.put("time", document.time());
+		final ArrayNode urls = node.putArray("retrieved");
+		retrieved.forEach((url) -> urls.add(url.toString()));
+	}
+
+	@Setup(Level.Iteration)
+	public void setupHandler() throws IOException {
+		destination = Files.createTempFile("write-document", ".json");
+		handler = JsonHandler.acquireWriter(destination.toString(), _serializer, JsonFormat.DOCUMENT,
+				new GroupCommit(durability, commitSize, Duration.ZERO));
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDownHandler() throws IOException {
+		handler.close();
+		Files.deleteIfExists(destination);
+	}
+
+	@Benchmark
+	public void writeSerialized() throws IOException {
+		handler.writeDocument(document);
+	}
+
+	@Benchmark
+	public void writeNode() throws IOException {
+		handler.writeDocument(node);
+	}
+}
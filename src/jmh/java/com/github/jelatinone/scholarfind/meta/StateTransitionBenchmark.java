@@ -0,0 +1,106 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ *
+ * <h1>StateTransitionBenchmark</h1>
+ *
+ * <p>
+ * Measures {@link Task} state transitions per second while a single Task is
+ * shared by 1, 8 and 64 threads, each of which alternates the Task between
+ * {@link State#OPERATING operating} and {@link State#RETRYING retrying}, with a
+ * listener registered as {@code Main} would.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StateTransitionBenchmark {
+
+	TransitioningTask task;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		task = new TransitioningTask();
+		task.withListener(() -> {
+		});
+		task.withState(State.AWAITING_DEPENDENCIES);
+		task.withState(State.COLLECTING);
+		task.withState(State.OPERATING);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public boolean transition_1() {
+		return task.alternate();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public boolean transition_8() {
+		return task.alternate();
+	}
+
+	@Benchmark
+	@Threads(64)
+	public boolean transition_64() {
+		return task.alternate();
+	}
+
+	static final class TransitioningTask extends Task<Object, Object> {
+
+		TransitioningTask() {
+			super("benchmark");
+		}
+
+		boolean alternate() {
+			final State current = getState();
+			final State next = current == State.OPERATING
+					? State.RETRYING
+					: State.OPERATING;
+			return withTransition(current, next);
+		}
+
+		@Override
+		protected Source<Object> collect() {
+			return Source.of(List.of());
+		}
+
+		@Override
+		protected Object operate(final Object operand) {
+			return operand;
+		}
+
+		@Override
+		protected boolean result(final Object operand, final Object produced) {
+			return true;
+		}
+
+		@Override
+		protected void restart() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
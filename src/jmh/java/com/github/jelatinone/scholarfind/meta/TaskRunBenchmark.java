@@ -0,0 +1,95 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ *
+ * <h1>TaskRunBenchmark</h1>
+ *
+ * <p>
+ * Measures the overhead {@link Task#run()} adds to each operand, by running a
+ * Task whose every operation returns its operand unchanged over a fixed number
+ * of operands, with 1 and 8 operands in flight at once.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskRunBenchmark {
+	static final int OPERANDS = 10_000;
+	static final List<Object> _operands = IntStream.range(0, OPERANDS)
+			.<Object>mapToObj(Integer::valueOf)
+			.toList();
+
+	@Param({ "1", "8" })
+	int concurrency;
+
+	PassthroughTask task;
+
+	@Setup(Level.Invocation)
+	public void setup() throws ParseException {
+		task = new PassthroughTask(concurrency);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public State run() {
+		task.run();
+		return task.getState();
+	}
+
+	static final class PassthroughTask extends Task<Object, Object> {
+
+		PassthroughTask(final int concurrency) throws ParseException {
+			super("benchmark");
+			withConfiguration(new DefaultParser().parse(DEFAULT_OPTION_CONFIGURATION, new String[] {
+					"--concurrency", Integer.toString(concurrency),
+					"--transient" }));
+		}
+
+		@Override
+		protected Source<Object> collect() {
+			return Source.of(_operands);
+		}
+
+		@Override
+		protected Object operate(final Object operand) {
+			return operand;
+		}
+
+		@Override
+		protected boolean result(final Object operand, final Object produced) {
+			return true;
+		}
+
+		@Override
+		protected void restart() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
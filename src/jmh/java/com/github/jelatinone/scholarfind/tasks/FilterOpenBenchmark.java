@@ -0,0 +1,70 @@
+package com.github.jelatinone.scholarfind.tasks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ *
+ * <h1>FilterOpenBenchmark</h1>
+ *
+ * <p>
+ * Measures the {@link FilterTask#isOpen(JsonNode, LocalDate) date check} made
+ * on every operand before the agent is consulted, over operands which are
+ * open, already closed and not yet open.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterOpenBenchmark {
+	static final int OPERANDS = 1_000;
+
+	LocalDate now;
+	List<JsonNode> operands;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final ObjectMapper mapper = new ObjectMapper();
+		now = LocalDate.now();
+		operands = new ArrayList<>();
+		for (int index = 0; index < OPERANDS; index++) {
+			final LocalDate open = now.plusDays((index % 4) * 30 - 60);
+			operands.add(mapper.createObjectNode()
+					.put("name", String.format("Scholarship %d", index))
+					.put("open", open.toString())
+					.put("close", open.plusDays(45).toString()));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERANDS)
+	public void isOpen(final Blackhole blackhole) {
+		for (final JsonNode operand : operands) {
+			blackhole.consume(FilterTask.isOpen(operand, now));
+		}
+	}
+}
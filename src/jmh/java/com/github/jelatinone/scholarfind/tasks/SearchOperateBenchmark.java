@@ -0,0 +1,96 @@
+package com.github.jelatinone.scholarfind.tasks;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.htmlunit.html.DomNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.jelatinone.scholarfind.meta.Source;
+import com.github.jelatinone.scholarfind.meta.Task;
+
+/**
+ *
+ * <h1>SearchOperateBenchmark</h1>
+ *
+ * <p>
+ * Measures {@link SearchTask#operate(DomNode) resolving} each anchor of a
+ * local page into a fully qualified URL, over a mix of absolute, root relative
+ * and document relative links.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchOperateBenchmark {
+	static final int ANCHORS = 1_000;
+	static final String[] LINKS = {
+			"https://example.org/scholarships/%d",
+			"/scholarships/%d",
+			"../scholarships/%d?sort=close",
+	};
+
+	Path page;
+	SearchTask task;
+	List<DomNode> anchors;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		// Every operand is logged, which would otherwise flood the benchmark output
+		Logger.getLogger(Task.class.getName()).setLevel(java.util.logging.Level.WARNING);
+
+		final StringBuilder content = new StringBuilder("<html><body>");
+		for (int index = 0; index < ANCHORS; index++) {
+			content.append(String.format("<a href=\"%s\">Scholarship %d</a>",
+					String.format(LINKS[index % LINKS.length], index), index));
+		}
+		content.append("</body></html>");
+		page = Files.createTempFile("search-operate", ".html");
+		Files.writeString(page, content);
+
+		task = new SearchTask("--from", page.toUri().toString(), "--transient");
+		anchors = new ArrayList<>();
+		try (Source<DomNode> source = task.collect()) {
+			source.forEachRemaining(anchors::add);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		task.close();
+		Files.deleteIfExists(page);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ANCHORS)
+	public void operate(final Blackhole blackhole) {
+		for (final DomNode anchor : anchors) {
+			final URL resolved = task.operate(anchor);
+			blackhole.consume(resolved);
+		}
+	}
+}
@@ -1,14 +1,34 @@
 package com.github.jelatinone.scholarfind;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.logging.Logger;
 
@@ -19,23 +39,44 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jelatinone.scholarfind.agent.implementation.OpenAIAgentHandler;
+import com.github.jelatinone.scholarfind.meta.Pipe;
+import com.github.jelatinone.scholarfind.meta.State;
 import com.github.jelatinone.scholarfind.meta.Task;
+import com.github.jelatinone.scholarfind.meta.Workload;
+import com.github.jelatinone.scholarfind.models.PipelineDocument;
+import com.github.jelatinone.scholarfind.models.PipelineDocument.StageDocument;
 import com.github.jelatinone.scholarfind.tasks.AnnotateTask;
 import com.github.jelatinone.scholarfind.tasks.FilterTask;
 import com.github.jelatinone.scholarfind.tasks.SearchTask;
 
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public final class Main {
 	static Logger _logger = Logger.getLogger(Main.class.getName());
 
-	static CommandLineParser _parser = new DefaultParser();
+	static CommandLineParser _parser = new DefaultParser(false);
 	static Options _config = new Options();
+	static ObjectMapper _mapper = new ObjectMapper();
 
+	static List<Task<?, ?>> _graph = new CopyOnWriteArrayList<>();
 	static Map<Task<?, ?>, Future<?>> _tasks = new ConcurrentHashMap<>();
 	static ExecutorService _executor;
+	static Map<Workload, ExecutorService> _pools = new EnumMap<>(Workload.class);
+	static ExecutorType _executorType;
+	static Integer _maxThreads;
+	@NonFinal
+	static Integer _refreshRate = Renderer.DEFAULT_REFRESH_RATE;
+	static Long CANCELLATION_GRACE_SECONDS = 5L;
+	static Integer DEFAULT_FETCH_THREADS = 16;
+	static Integer DEFAULT_AGENT_THREADS = 8;
+	static Integer DEFAULT_PARSE_THREADS = Runtime.getRuntime().availableProcessors();
 
 	static {
 		Option opt_helpMessage = new Option("help", "output a descriptive help message");
@@ -57,17 +98,107 @@ public final class Main {
 				.converter((value) -> ExecutorType.valueOf(value.toUpperCase()))
 				.get();
 		_config.addOption(opt_executorType);
+		Option opt_fetchThreads = Option.builder()
+				.longOpt("fetchThreads")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("number of threads to retrieve pages with, shared by every task")
+				.converter(Integer::valueOf)
+				.get();
+		_config.addOption(opt_fetchThreads);
+		Option opt_agentThreads = Option.builder()
+				.longOpt("agentThreads")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("number of threads to make agent requests with, shared by every task")
+				.converter(Integer::valueOf)
+				.get();
+		_config.addOption(opt_agentThreads);
+		Option opt_parseThreads = Option.builder()
+				.longOpt("parseThreads")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("number of threads to parse and serialize documents with, shared by every task")
+				.converter(Integer::valueOf)
+				.get();
+		_config.addOption(opt_parseThreads);
 		Option opt_task = Option.builder()
 				.longOpt("task")
 				.hasArgs()
 				.desc("Defines a given task with arguments.")
 				.get();
 		_config.addOption(opt_task);
+		Option opt_pipeline = Option.builder()
+				.longOpt("pipeline")
+				.hasArg()
+				.desc("location of a JSON pipeline of tasks to run in place of --task")
+				.get();
+		_config.addOption(opt_pipeline);
+		Option opt_pipeTasks = Option.builder()
+				.longOpt("pipe")
+				.desc("stream the results of each task into the following task as they are produced")
+				.get();
+		_config.addOption(opt_pipeTasks);
+		Option opt_pipeCapacity = Option.builder()
+				.longOpt("pipeCapacity")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("maximum number of results held between piped tasks")
+				.converter(Integer::valueOf)
+				.get();
+		_config.addOption(opt_pipeCapacity);
+		Option opt_refreshRate = Option.builder()
+				.longOpt("refreshRate")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("number of times per second the live preview is redrawn")
+				.converter(Integer::valueOf)
+				.get();
+		_config.addOption(opt_refreshRate);
+		Option opt_serve = Option.builder()
+				.longOpt("serve")
+				.desc("keep running and accept jobs over a local HTTP API, rather than running the given tasks")
+				.get();
+		_config.addOption(opt_serve);
+		Option opt_port = Option.builder()
+				.longOpt("port")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("local port to accept jobs on when serving")
+				.converter(Integer::valueOf)
+				.get();
+		_config.addOption(opt_port);
+		Option opt_jobRetention = Option.builder()
+				.longOpt("jobRetention")
+				.hasArg()
+				.desc("time, such as PT1H, a finished job is kept for when serving before it is forgotten")
+				.converter(Duration::parse)
+				.get();
+		_config.addOption(opt_jobRetention);
+		Option opt_maximumJobs = Option.builder()
+				.longOpt("maximumJobs")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("maximum number of finished jobs kept when serving, forgetting the oldest first")
+				.converter(Integer::valueOf)
+				.get();
+		_config.addOption(opt_maximumJobs);
+		Option opt_every = Option.builder()
+				.longOpt("every")
+				.hasArg()
+				.desc("interval, such as PT6H, to run the task graph again at until stopped, with the SCHEDULED executor type")
+				.converter(Duration::parse)
+				.get();
+		_config.addOption(opt_every);
 	}
 
 	public static void main(final String... arguments) {
+		final CommandLine parsedCommand;
+		final PipelineDocument pipeline;
+		final Duration interval;
+		final long launched;
 		try {
-			CommandLine parsedCommand = _parser.parse(_config, arguments);
+			parsedCommand = _parser.parse(_config, arguments);
 
 			for (String argument : arguments) {
 				_logger.fine(String.format("Main :: supplied with argument :", argument));
@@ -78,6 +209,8 @@ public final class Main {
 
 			Integer maxThreads = parsedCommand.getParsedOptionValue("maxThreads");
 			ExecutorType executorType = parsedCommand.getParsedOptionValue("executorType");
+			_executorType = executorType;
+			_maxThreads = maxThreads;
 
 			switch (executorType) {
 				case FIXED:
@@ -89,86 +222,606 @@ public final class Main {
 					break;
 
 				case SCHEDULED:
-					_executor = Executors.newScheduledThreadPool(maxThreads);
+					ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(maxThreads);
+					scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+					_executor = scheduler;
 					break;
 
 				case VIRTUAL:
-					// _executor = Executors.newVirtualThreadPerTaskExecutor();
-					// break;
+					_executor = Executors.newVirtualThreadPerTaskExecutor();
+					break;
 
 				default:
 					_executor = Executors.newCachedThreadPool();
 					break;
 			}
 
-			String[] taskArguments = parsedCommand.getParsedOptionValues("task");
+			_pools.put(Workload.COORDINATION, _executor);
+			withPool(Workload.FETCH, parsedCommand.getParsedOptionValue("fetchThreads"), DEFAULT_FETCH_THREADS);
+			withPool(Workload.AGENT, parsedCommand.getParsedOptionValue("agentThreads"), DEFAULT_AGENT_THREADS);
+			withPool(Workload.PARSE, parsedCommand.getParsedOptionValue("parseThreads"), DEFAULT_PARSE_THREADS);
+			_pools.forEach(Workload::withPool);
 
-			if (taskArguments == null) {
-				_logger.severe("Main :: Could not parse argument(s) : no runnable tasks found!");
-				return;
+			Integer refreshRate = parsedCommand.getParsedOptionValue("refreshRate");
+			if (refreshRate != null) {
+				_refreshRate = refreshRate;
 			}
 
-			List<String> taskArgument = new ArrayList<>();
-
-			for (String argument : taskArguments) {
-				boolean argumentIsTask;
-				try {
-					TaskType.valueOf(argument.toUpperCase());
-					argumentIsTask = true;
-				} catch (final IllegalArgumentException ignored) {
-					argumentIsTask = false;
-				}
+			interval = parsedCommand.getParsedOptionValue("every");
+			if (interval != null && (interval.isNegative() || interval.isZero())) {
+				throw new ParseException(String.format("Invalid interval : %s", interval));
+			}
+			if (interval != null && executorType != ExecutorType.SCHEDULED) {
+				throw new ParseException("--every requires the SCHEDULED executor type");
+			}
+			if (interval != null && parsedCommand.hasOption("serve")) {
+				throw new ParseException("either --serve or --every may be given, not both");
+			}
 
-				if (argumentIsTask && !taskArgument.isEmpty()) {
-					withTask(taskArgument);
-					taskArgument.clear();
-				}
-				taskArgument.add(argument);
+			if (parsedCommand.hasOption("serve")) {
+				serve(parsedCommand);
+				return;
+			}
+			String pipelineTarget = parsedCommand.getOptionValue("pipeline");
+			if (pipelineTarget != null && parsedCommand.hasOption("task")) {
+				throw new ParseException("either --task or --pipeline may be given, not both");
 			}
-			withTask(taskArgument);
+			pipeline = pipelineTarget != null ? withPipeline(Path.of(pipelineTarget)) : null;
+			launched = System.nanoTime();
+			_graph.addAll(launch(parsedCommand, pipeline));
 		} catch (final ParseException exception) {
 			_logger.severe(String.format("Main :: Could not parse argument(s) : %s",
 					exception.getMessage()));
+			_pools.values().forEach(ExecutorService::shutdown);
 			return;
 		}
 
+		Runtime.getRuntime().addShutdownHook(new Thread(Main::cancel, "task-cancellation"));
+		try (Renderer renderer = new Renderer(_graph, System.out)) {
+			renderer.start(_refreshRate);
+			_logger.fine(String.format("Main :: Executing [%s] tasks", _graph.size()));
+			join();
+			if (interval != null) {
+				recur(parsedCommand, pipeline, interval, launched);
+			}
+		} finally {
+			_pools.values().forEach(ExecutorService::close);
+		}
+	}
+
+	/**
+	 * 
+	 * Provides every task of the Task graph, including those of the latest run
+	 * when running again {@link #recur(CommandLine, PipelineDocument, Duration, long)
+	 * at an interval}.
+	 * 
+	 * @return Every task of the Task graph
+	 */
+	static List<Task<?, ?>> getGraph() {
+		return List.copyOf(_graph);
+	}
+
+	/**
+	 * 
+	 * Waits until every task of the Task graph has finished.
+	 */
+	private static void join() {
+		CompletableFuture<?>[] tasks = _graph
+				.stream()
+				.map(Task::completable)
+				.toArray(CompletableFuture[]::new);
 		try {
-			update();
-			_logger.fine(String.format("Main :: Executing [%s] tasks", _tasks.size()));
-			CompletableFuture<?>[] tasks = _tasks.keySet()
-					.stream()
-					.map(Task::completable)
-					.toArray(CompletableFuture[]::new);
 			CompletableFuture.allOf(tasks).join();
-		} finally {
-			_executor.close();
+		} catch (final CompletionException | CancellationException exception) {
+			_logger.severe(String.format("Main :: Task graph did not complete : %s", exception.getMessage()));
 		}
 	}
 
 	/**
-	 * Updates the live preview of Task behavior.
+	 * 
+	 * Runs the Task graph again at a fixed interval from the start of each run,
+	 * until the process is stopped. Each run is scheduled on the
+	 * {@link ExecutorType#SCHEDULED scheduled} executor only once the previous run
+	 * has finished, so that runs never overlap, and any run missed while the
+	 * previous run was still going is skipped. Each run creates its tasks afresh,
+	 * so that tasks given `--incremental` skip operands unchanged since an
+	 * earlier run, while agent clients are shared between every run.
+	 * 
+	 * @param command  Parsed command line describing the Task graph
+	 * @param pipeline Pipeline describing the Task graph, or null when described
+	 *                 by the command line
+	 * @param interval Interval between the start of each run
+	 * @param launched Time, in nanoseconds, the first run was launched
 	 */
-	private static void update() {
-		System.out.print("\033[2J\033[H");
-		System.out.flush();
-		for (Task<?, ?> task : _tasks.keySet()) {
-			System.out.println(task.getReport());
+	private static void recur(final CommandLine command, final PipelineDocument pipeline,
+			final Duration interval, final long launched) {
+		ScheduledExecutorService scheduler = (ScheduledExecutorService) _executor;
+		long period = interval.toNanos();
+		long started = launched;
+		try (Closeable retained = OpenAIAgentHandler.retain()) {
+			while (!scheduler.isShutdown()) {
+				long now = System.nanoTime();
+				long next = started + period;
+				int skipped = 0;
+				while (next - now < 0) {
+					next += period;
+					skipped++;
+				}
+				if (skipped > 0) {
+					_logger.warning(String.format("Main :: Skipped %d run(s) missed while the previous run was going",
+							skipped));
+				}
+				_logger.info(String.format("Main :: Next run in %s", Duration.ofNanos(next - now)));
+				List<Task<?, ?>> previous = List.copyOf(_graph);
+				List<Task<?, ?>> tasks = scheduler
+						.schedule(() -> launch(command, pipeline), next - now, TimeUnit.NANOSECONDS)
+						.get();
+				started = next;
+				_graph.addAll(tasks);
+				_graph.removeAll(previous);
+				join();
+			}
+		} catch (final ExecutionException exception) {
+			_logger.severe(String.format("Main :: Could not launch run : %s", exception.getCause().getMessage()));
+		} catch (final CancellationException | RejectedExecutionException exception) {
+			_logger.info("Main :: Stopped running the Task graph");
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		} catch (final IOException exception) {
+			_logger.warning(String.format("Main :: Failed to release agent clients %s", exception.getMessage()));
 		}
 	}
 
 	/**
 	 * 
-	 * Adds a task to the Task graph, and immediately submits it for execution. Also
-	 * adds a listener to this task to update the live {@link #update() update}.
+	 * Creates the pool of threads a {@link Workload} runs on, each of which is
+	 * virtual when the executor type is {@link ExecutorType#VIRTUAL virtual}.
 	 * 
-	 * @implNote Tasks submitted are not guaranteed to be run at the same time or
-	 *           interval.
+	 * @param workload Workload to create the pool of
+	 * @param threads  Number of threads of the pool, or null for the default
+	 * @param fallback Default number of threads of the pool
+	 * @throws ParseException When the number of threads is not positive
+	 */
+	private static void withPool(final Workload workload, final Integer threads, final Integer fallback)
+			throws ParseException {
+		if (threads != null && threads < 1) {
+			throw new ParseException(String.format("Invalid %s threads : %d", workload.name().toLowerCase(),
+					threads));
+		}
+		Thread.Builder builder = _executorType == ExecutorType.VIRTUAL ? Thread.ofVirtual() : Thread.ofPlatform();
+		_pools.put(workload, Executors.newFixedThreadPool(threads != null ? threads : fallback,
+				builder.name(String.format("%s-", workload.name().toLowerCase()), 0).factory()));
+	}
+
+	/**
+	 * 
+	 * Creates every task of a Task graph from its `--task` arguments, pipes and
+	 * resolves the dependencies between them, then schedules each to run.
+	 * 
+	 * @param command Parsed command line describing the Task graph
+	 * @return Every task of the Task graph, each of which has been scheduled
+	 * @throws ParseException When no tasks are given, or the Task graph is not
+	 *                        schedulable
+	 */
+	static List<Task<?, ?>> launch(final CommandLine command) throws ParseException {
+		String[] taskArguments = command.getParsedOptionValues("task");
+		if (taskArguments == null) {
+			throw new ParseException("no runnable tasks found!");
+		}
+
+		List<Task<?, ?>> tasks = new ArrayList<>();
+		List<String> taskArgument = new ArrayList<>();
+
+		for (String argument : taskArguments) {
+			boolean argumentIsTask;
+			try {
+				TaskType.valueOf(argument.toUpperCase());
+				argumentIsTask = true;
+			} catch (final IllegalArgumentException ignored) {
+				argumentIsTask = false;
+			}
+
+			if (!argumentIsTask && taskArgument.isEmpty()) {
+				throw new ParseException(String.format("unknown task %s", argument));
+			}
+			if (argumentIsTask && !taskArgument.isEmpty()) {
+				tasks.add(withTask(taskArgument));
+				taskArgument.clear();
+			}
+			taskArgument.add(argument);
+		}
+		tasks.add(withTask(taskArgument));
+
+		if (command.hasOption("pipe")) {
+			Integer pipeCapacity = command.getParsedOptionValue("pipeCapacity");
+			int capacity = pipeCapacity != null ? pipeCapacity : Pipe.DEFAULT_PIPE_CAPACITY;
+			for (int index = 1; index < tasks.size(); index++) {
+				Task<?, ?> upstream = tasks.get(index - 1);
+				Task<?, ?> task = tasks.get(index);
+				if (task.getPrerequisites().contains(upstream.getIdentifier())) {
+					throw new ParseException(String.format("%s can not both be piped from and run after %s",
+							task.getIdentifier(), upstream.getIdentifier()));
+				}
+				upstream.withPipe(task, capacity);
+			}
+			withPiped(tasks.size() > 1 ? tasks : List.of());
+		}
+		withDependencies(tasks);
+		tasks.forEach(Main::schedule);
+		return tasks;
+	}
+
+	/**
+	 * 
+	 * Creates every task of a Task graph from a pipeline, or otherwise from the
+	 * command line, then schedules each to run.
+	 * 
+	 * @param command  Parsed command line describing the Task graph
+	 * @param pipeline Pipeline describing the Task graph, or null when described
+	 *                 by the command line
+	 * @return Every task of the Task graph, each of which has been scheduled
+	 * @throws ParseException When the Task graph is not schedulable
+	 */
+	static List<Task<?, ?>> launch(final CommandLine command, final PipelineDocument pipeline)
+			throws ParseException {
+		return pipeline != null ? launch(pipeline) : launch(command);
+	}
+
+	/**
+	 * 
+	 * Creates every task of a Task graph from a job submitted to the
+	 * {@link Server}, given either as an array of command line arguments or as a
+	 * pipeline, then schedules each to run.
+	 * 
+	 * @param job Job submitted
+	 * @return Every task of the Task graph, each of which has been scheduled
+	 * @throws ParseException When the job is malformed, or its Task graph is not
+	 *                        schedulable
+	 */
+	static List<Task<?, ?>> launch(final JsonNode job) throws ParseException {
+		if (job.isObject()) {
+			try {
+				return launch(_mapper.treeToValue(job, PipelineDocument.class));
+			} catch (final JsonProcessingException exception) {
+				throw new ParseException(String.format("malformed pipeline %s", exception.getOriginalMessage()));
+			}
+		}
+		if (!job.isArray()) {
+			throw new ParseException("job must be an array of arguments or a pipeline");
+		}
+		String[] arguments = new String[job.size()];
+		for (int index = 0; index < job.size(); index++) {
+			arguments[index] = job.get(index).asText();
+		}
+		return launch(new DefaultParser(false).parse(_config, arguments));
+	}
+
+	/**
+	 * 
+	 * Reads a pipeline from a JSON file.
+	 * 
+	 * @param location Location of the pipeline
+	 * @return Pipeline read
+	 * @throws ParseException When the pipeline can not be read or is malformed
+	 */
+	private static PipelineDocument withPipeline(final Path location) throws ParseException {
+		try {
+			return _mapper.readValue(location.toFile(), PipelineDocument.class);
+		} catch (final IOException exception) {
+			throw new ParseException(String.format("could not read pipeline %s : %s", location,
+					exception.getMessage()));
+		}
+	}
+
+	/**
+	 * 
+	 * Creates every task of a Task graph from the stages of a pipeline, pipes
+	 * each stage from its inputs and resolves the dependencies between them,
+	 * then schedules each to run. A stage may be piped from any number of
+	 * earlier stages, and piped into any number of later stages, so that many
+	 * stages may fan in to one and one may fan out to many.
+	 * 
+	 * @param pipeline Pipeline describing the Task graph
+	 * @return Every task of the Task graph, each of which has been scheduled
+	 * @throws ParseException When the pipeline is malformed, or its Task graph is
+	 *                        not schedulable
+	 */
+	static List<Task<?, ?>> launch(final PipelineDocument pipeline) throws ParseException {
+		if (pipeline.stages() == null || pipeline.stages().isEmpty()) {
+			throw new ParseException("pipeline has no stages");
+		}
+		int pipelineCapacity = pipeline.pipeCapacity() != null ? pipeline.pipeCapacity()
+				: Pipe.DEFAULT_PIPE_CAPACITY;
+
+		List<Task<?, ?>> tasks = new ArrayList<>();
+		Set<Task<?, ?>> piped = new LinkedHashSet<>();
+		Map<String, Task<?, ?>> staged = new HashMap<>();
+		for (StageDocument stage : pipeline.stages()) {
+			Task<?, ?> task = withStage(stage);
+			if (staged.putIfAbsent(task.getIdentifier(), task) != null) {
+				throw new ParseException(String.format("duplicate identifier %s", task.getIdentifier()));
+			}
+			int capacity = stage.pipeCapacity() != null ? stage.pipeCapacity() : pipelineCapacity;
+			if (capacity < 1) {
+				throw new ParseException(String.format("invalid pipe capacity %d of %s", capacity,
+						task.getIdentifier()));
+			}
+			List<String> inputs = stage.inputs() != null ? stage.inputs() : List.of();
+			for (String input : inputs) {
+				Task<?, ?> upstream = staged.get(input);
+				if (upstream == null || upstream == task) {
+					throw new ParseException(String.format("%s is piped from %s, which is not an earlier stage",
+							task.getIdentifier(), input));
+				}
+				if (task.getPrerequisites().contains(input)) {
+					throw new ParseException(String.format("%s can not both be piped from and run after %s",
+							task.getIdentifier(), input));
+				}
+				upstream.withPipe(task, capacity);
+				piped.add(upstream);
+				piped.add(task);
+			}
+			tasks.add(task);
+		}
+		withPiped(piped);
+		withDependencies(tasks);
+		tasks.forEach(Main::schedule);
+		return tasks;
+	}
+
+	/**
+	 * 
+	 * Creates the task of a single stage of a pipeline, passing each of its
+	 * options to the task as a command line argument. Options which are true are
+	 * passed as flags, options which are false or null are omitted, and arrays
+	 * are passed as comma separated values.
+	 * 
+	 * @param stage Stage to create the task of
+	 * @return Created task, which is not yet {@link #submit(Task) submitted}
+	 * @throws ParseException When the stage names an unknown task or workload
+	 */
+	private static Task<?, ?> withStage(final StageDocument stage) throws ParseException {
+		if (stage.task() == null) {
+			throw new ParseException("stage is missing its task");
+		}
+		try {
+			TaskType.valueOf(stage.task().toUpperCase());
+		} catch (final IllegalArgumentException exception) {
+			throw new ParseException(String.format("unknown task %s", stage.task()));
+		}
+
+		List<String> taskArgument = new ArrayList<>();
+		taskArgument.add(stage.task());
+		if (stage.id() != null) {
+			taskArgument.add("--id");
+			taskArgument.add(stage.id());
+		}
+		if (stage.after() != null && !stage.after().isEmpty()) {
+			taskArgument.add("--after");
+			taskArgument.add(String.join(",", stage.after()));
+		}
+		if (stage.options() != null) {
+			for (Map.Entry<String, JsonNode> option : stage.options().entrySet()) {
+				JsonNode value = option.getValue();
+				if (value == null || value.isNull() || (value.isBoolean() && !value.booleanValue())) {
+					continue;
+				}
+				taskArgument.add(String.format("--%s", option.getKey()));
+				if (value.isArray()) {
+					List<String> values = new ArrayList<>();
+					value.forEach((element) -> values.add(element.asText()));
+					taskArgument.add(String.join(",", values));
+				} else if (!value.isBoolean()) {
+					taskArgument.add(value.asText());
+				}
+			}
+		}
+
+		Task<?, ?> task = withTask(taskArgument);
+		if (stage.workloads() != null) {
+			for (Map.Entry<String, String> workload : stage.workloads().entrySet()) {
+				try {
+					task.withWorkload(State.valueOf(workload.getKey().toUpperCase()),
+							Workload.valueOf(workload.getValue().toUpperCase()));
+				} catch (final IllegalArgumentException exception) {
+					throw new ParseException(String.format("invalid workload %s of %s : %s", workload.getValue(),
+							workload.getKey(), task.getIdentifier()));
+				}
+			}
+		}
+		return task;
+	}
+
+	/**
+	 * 
+	 * Serves jobs over a local HTTP API until the process is stopped, sharing
+	 * the threads and agent clients of this process between every job.
+	 * 
+	 * @param command Parsed command line of this process
+	 * @throws ParseException When the port, job retention or maximum number of
+	 *                        jobs is invalid
+	 */
+	private static void serve(final CommandLine command) throws ParseException {
+		Integer port = command.getParsedOptionValue("port");
+		if (port != null && (port < 0 || port > 65535)) {
+			throw new ParseException(String.format("Invalid port : %d", port));
+		}
+		Duration jobRetention = command.getParsedOptionValue("jobRetention");
+		if (jobRetention != null && jobRetention.isNegative()) {
+			throw new ParseException(String.format("Invalid job retention : %s", jobRetention));
+		}
+		Integer maximumJobs = command.getParsedOptionValue("maximumJobs");
+		if (maximumJobs != null && maximumJobs < 0) {
+			throw new ParseException(String.format("Invalid maximum jobs : %d", maximumJobs));
+		}
+		InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(),
+				port != null ? port : Server.DEFAULT_PORT);
+		try (Closeable retained = OpenAIAgentHandler.retain();
+				Server server = new Server(address, Main::launch,
+						jobRetention != null ? jobRetention : Server.DEFAULT_JOB_RETENTION,
+						maximumJobs != null ? maximumJobs : Server.DEFAULT_MAXIMUM_JOBS)) {
+			Runtime.getRuntime().addShutdownHook(new Thread(server::close, "server-shutdown"));
+			server.start();
+			server.await();
+		} catch (final IOException exception) {
+			_logger.severe(String.format("Main :: Could not serve jobs : %s", exception.getMessage()));
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		} finally {
+			_pools.values().forEach(ExecutorService::close);
+		}
+	}
+
+	/**
+	 * 
+	 * Cancels every task of the Task graph which has not yet completed,
+	 * interrupting any operand in flight, then briefly awaits each task closing
+	 * its resources and each {@link Workload} finishing its calls.
+	 */
+	private static void cancel() {
+		for (Task<?, ?> task : _graph) {
+			task.completable().cancel(true);
+		}
+		_pools.values().forEach(ExecutorService::shutdown);
+		try {
+			for (ExecutorService pool : _pools.values()) {
+				pool.awaitTermination(CANCELLATION_GRACE_SECONDS, TimeUnit.SECONDS);
+			}
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 
+	 * Creates a task for the Task graph from its arguments.
 	 * 
 	 * @param taskArgument List of arguments to pass to the task for construction
+	 * @return Created task, which is not yet {@link #submit(Task) submitted}
 	 */
-	private static void withTask(final List<String> taskArgument) {
+	private static Task<?, ?> withTask(final List<String> taskArgument) {
 		TaskType type = TaskType.valueOf(taskArgument.get(0).toUpperCase());
 		Task<?, ?> task = type.create(taskArgument.toArray(String[]::new));
+		if (_executorType == ExecutorType.VIRTUAL) {
+			task.withOperandThreads(Thread.ofVirtual()
+					.name(String.format("%s-operand-", task.getIdentifier()), 0)
+					.factory());
+		}
+		return task;
+	}
+
+	/**
+	 * 
+	 * Ensures every piped task of a Task graph may run at once, since a piped
+	 * task waits on its upstream tasks while its pipe is empty, and blocks them
+	 * once it is full. An executor with a fixed number of threads must have a
+	 * thread for each.
+	 * 
+	 * @param piped Every task of the Task graph which is piped from or into
+	 * @throws ParseException When the executor has fewer threads than piped tasks
+	 */
+	private static void withPiped(final Collection<Task<?, ?>> piped) throws ParseException {
+		boolean bounded = _executorType == ExecutorType.FIXED
+				|| _executorType == ExecutorType.WORK_STEALING
+				|| _executorType == ExecutorType.SCHEDULED;
+		if (bounded && _maxThreads != null && piped.size() > _maxThreads) {
+			throw new ParseException(String.format(
+					"%d piped tasks must run at once, but the %s executor has %d thread(s)",
+					piped.size(), _executorType.name().toLowerCase(), _maxThreads));
+		}
+	}
+
+	/**
+	 * 
+	 * Resolves the `--after` identifiers of every task into dependencies, and
+	 * ensures the resulting Task graph contains no cycles.
+	 * 
+	 * @param tasks Every task of the Task graph
+	 * @throws ParseException When the Task graph is not schedulable
+	 */
+	private static void withDependencies(final List<Task<?, ?>> tasks) throws ParseException {
+		Map<String, Task<?, ?>> identified = new HashMap<>();
+		for (Task<?, ?> task : tasks) {
+			if (identified.putIfAbsent(task.getIdentifier(), task) != null) {
+				throw new ParseException(String.format("duplicate identifier %s", task.getIdentifier()));
+			}
+		}
+		for (Task<?, ?> task : tasks) {
+			for (String identifier : task.getPrerequisites()) {
+				Task<?, ?> prerequisite = identified.get(identifier);
+				if (prerequisite == null) {
+					throw new ParseException(String.format("%s depends on unknown task %s",
+							task.getIdentifier(), identifier));
+				}
+				task.withDependent(prerequisite);
+			}
+		}
+
+		Map<Task<?, ?>, Integer> remaining = new HashMap<>();
+		Deque<Task<?, ?>> ready = new ArrayDeque<>();
+		for (Task<?, ?> task : tasks) {
+			remaining.put(task, task.getDependents().size());
+			if (task.getDependents().isEmpty()) {
+				ready.add(task);
+			}
+		}
+		int ordered = 0;
+		while (!ready.isEmpty()) {
+			Task<?, ?> task = ready.poll();
+			ordered++;
+			for (Task<?, ?> dependency : task.getDependencies()) {
+				if (remaining.merge(dependency, -1, Integer::sum) == 0) {
+					ready.add(dependency);
+				}
+			}
+		}
+		if (ordered != tasks.size()) {
+			throw new ParseException("dependencies contain a cycle");
+		}
+	}
+
+	/**
+	 * 
+	 * Schedules a task to be {@link #submit(Task) submitted} once every one of its
+	 * dependencies has completed, so that no executor thread is held waiting on
+	 * them. A task any of whose dependencies failed or was cancelled is cancelled
+	 * in turn, and is still submitted so that it releases its resources and its
+	 * own dependents are cancelled likewise.
+	 * 
+	 * @param task Task to schedule
+	 */
+	private static void schedule(final Task<?, ?> task) {
+		CompletableFuture<?>[] dependents = task.getDependents()
+				.stream()
+				.map(Task::completable)
+				.toArray(CompletableFuture[]::new);
+		CompletableFuture.allOf(dependents)
+				.whenComplete((ignored, throwable) -> {
+					task.getDependents()
+							.stream()
+							.filter((dependency) -> dependency.getState() == State.FAILED
+									|| dependency.completable().isCompletedExceptionally())
+							.findFirst()
+							.ifPresent((dependency) -> {
+								_logger.warning(String.format("Main :: %s cancelled, as %s did not complete",
+										task.getIdentifier(), dependency.getIdentifier()));
+								task.completable().cancel(true);
+							});
+					submit(task);
+				});
+	}
+
+	/**
+	 * 
+	 * Adds a task to the running tasks, which it leaves once it finishes, and
+	 * immediately submits it for execution.
+	 * 
+	 * @implNote Tasks submitted are not guaranteed to be run at the same time or
+	 *           interval.
+	 * 
+	 * @param task Task to submit
+	 */
+	private static void submit(final Task<?, ?> task) {
 		Future<?> future = _executor.submit(() -> {
 			try (task) {
 				task.run();
@@ -180,8 +833,8 @@ public final class Main {
 				_logger.fine(String.format("Main :: %s critical error occurred %s", task.getName(), error.getMessage()));
 			}
 		});
-		task.withListener(Main::update);
 		_tasks.put(task, future);
+		task.completable().whenComplete((ignored, throwable) -> _tasks.remove(task));
 	}
 
 	static enum ExecutorType {
@@ -194,19 +847,36 @@ public final class Main {
 		VIRTUAL;
 	}
 
+	/**
+	 * Kinds of task, each with the {@link Workload} of its stages. An operating
+	 * stage which makes calls of more than one kind, such as fetching a page and
+	 * then annotating it, is left undeclared, and hands each call to its own
+	 * workload instead.
+	 */
 	static enum TaskType {
-		SEARCH(SearchTask::new),
-		ANNOTATE(AnnotateTask::new),
-		FILTER(FilterTask::new);
+		SEARCH(SearchTask::new, Map.of(
+				State.COLLECTING, Workload.FETCH,
+				State.OPERATING, Workload.PARSE,
+				State.PRODUCING_RESULT, Workload.PARSE)),
+		ANNOTATE(AnnotateTask::new, Map.of(
+				State.COLLECTING, Workload.PARSE,
+				State.PRODUCING_RESULT, Workload.PARSE)),
+		FILTER(FilterTask::new, Map.of(
+				State.COLLECTING, Workload.PARSE,
+				State.PRODUCING_RESULT, Workload.PARSE));
 
 		private final Function<String[], Task<?, ?>> factory;
+		private final Map<State, Workload> stages;
 
-		private TaskType(final Function<String[], Task<?, ?>> generator) {
+		private TaskType(final Function<String[], Task<?, ?>> generator, final Map<State, Workload> stages) {
 			this.factory = generator;
+			this.stages = stages;
 		}
 
 		public Task<?, ?> create(final String[] taskArgument) {
-			return factory.apply(taskArgument);
+			Task<?, ?> task = factory.apply(taskArgument);
+			stages.forEach(task::withWorkload);
+			return task;
 		}
 	}
 }
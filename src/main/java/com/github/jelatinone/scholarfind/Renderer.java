@@ -0,0 +1,145 @@
+package com.github.jelatinone.scholarfind;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.github.jelatinone.scholarfind.meta.Metrics;
+import com.github.jelatinone.scholarfind.meta.Task;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+/**
+ *
+ * <h1>Renderer</h1>
+ *
+ * <p>
+ * Draws the live preview of a Task graph at a fixed rate from its own thread,
+ * sampling the {@link Task#getReport() report} and {@link Metrics metrics} of
+ * each task rather than being driven by them, so that operand threads never
+ * wait on the console. Each frame is written to the console in a single call.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+final class Renderer implements AutoCloseable {
+	public static Integer DEFAULT_REFRESH_RATE = 10;
+	static Integer PROGRESS_WIDTH = 30;
+
+	static String CURSOR_HOME = "\033[H";
+	static String CLEAR_LINE = "\033[K";
+	static String CLEAR_BELOW = "\033[J";
+
+	static Logger _logger = Logger.getLogger(Renderer.class.getName());
+
+	Collection<Task<?, ?>> tasks;
+	PrintStream console;
+	ScheduledExecutorService sampler;
+
+	/**
+	 * Renderer Constructor.
+	 *
+	 * @param tasks   Tasks to draw, which may be added to while rendering
+	 * @param console Console to draw to
+	 */
+	Renderer(final @NonNull Collection<Task<?, ?>> tasks, final @NonNull PrintStream console) {
+		this.tasks = tasks;
+		this.console = console;
+		sampler = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+			Thread thread = new Thread(runnable, "console-renderer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts drawing a frame at a given rate.
+	 *
+	 * @param rate Frames drawn per second
+	 */
+	void start(final int rate) {
+		if (rate <= 0) {
+			throw new IllegalArgumentException(String.format("Invalid refresh rate : %d", rate));
+		}
+		final long period = TimeUnit.SECONDS.toNanos(1) / rate;
+		console.print("\033[2J");
+		sampler.scheduleAtFixedRate(this::sample, 0, period, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Draws a frame on the sampling thread, where a failure to draw is logged
+	 * rather than thrown, since a throwing frame would silently stop every frame
+	 * after it.
+	 */
+	private void sample() {
+		try {
+			render();
+		} catch (final RuntimeException exception) {
+			_logger.warning(String.format("Renderer :: Failed to draw frame %s", exception.getMessage()));
+		}
+	}
+
+	/**
+	 * Draws a single frame of every task.
+	 */
+	void render() {
+		final StringBuilder frame = new StringBuilder(CURSOR_HOME);
+		for (final Task<?, ?> task : tasks) {
+			for (final String line : task.getReport().split("\n")) {
+				frame.append(line).append(CLEAR_LINE).append('\n');
+			}
+			frame.append('\t').append(progress(task.getMetrics())).append(CLEAR_LINE).append('\n');
+		}
+		frame.append(CLEAR_BELOW);
+		console.print(frame);
+		console.flush();
+	}
+
+	/**
+	 * Formats the progress of a task as a bar, with its processed and collected
+	 * operands, and estimated time remaining. The total is suffixed with `+` while
+	 * operands are still being collected.
+	 *
+	 * @param metrics Metrics of the task
+	 * @return Formatted progress
+	 */
+	static String progress(final @NonNull Metrics metrics) {
+		final long processed = metrics.getProcessed();
+		final long collected = metrics.getCollected();
+		final int filled = collected > 0
+				? (int) Math.min(PROGRESS_WIDTH, processed * PROGRESS_WIDTH / collected)
+				: 0;
+		final Duration estimate = metrics.getEstimate();
+		return String.format("[%s%s] %d/%d%s ETA %s",
+				"#".repeat(filled),
+				"-".repeat(PROGRESS_WIDTH - filled),
+				processed,
+				collected,
+				metrics.isExhausted() ? "" : "+",
+				estimate == null
+						? "--:--"
+						: String.format("%02d:%02d:%02d", estimate.toHours(), estimate.toMinutesPart(),
+								estimate.toSecondsPart()));
+	}
+
+	/**
+	 * Stops drawing, then draws one final frame.
+	 */
+	@Override
+	public void close() {
+		sampler.shutdownNow();
+		try {
+			sampler.awaitTermination(1, TimeUnit.SECONDS);
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+		render();
+	}
+}
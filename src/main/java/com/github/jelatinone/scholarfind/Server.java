@@ -0,0 +1,385 @@
+package com.github.jelatinone.scholarfind;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import org.apache.commons.cli.ParseException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.jelatinone.scholarfind.meta.State;
+import com.github.jelatinone.scholarfind.meta.Task;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+/**
+ *
+ * <h1>Server</h1>
+ *
+ * <p>
+ * Serves a small local HTTP API for submitting Task graphs to a long-running
+ * process, so that every job shares the same warm threads, clients and caches
+ * rather than starting a process of its own. Each job is submitted either as
+ * the same arguments given on the command line, such as
+ * `["--task", "filter", ...]`, or as the same pipeline given by `--pipeline`.
+ * </p>
+ *
+ * <ul>
+ * <li>`POST /jobs` submits a job, given a JSON array of its arguments or a
+ * pipeline</li>
+ * <li>`GET /jobs` lists every job</li>
+ * <li>`GET /jobs/{id}` provides the report of each task of a job</li>
+ * <li>`DELETE /jobs/{id}` cancels a running job, or forgets a finished
+ * one</li>
+ * </ul>
+ *
+ * <p>
+ * A finished job is forgotten once it has been kept for the job retention, or
+ * once more finished jobs than the maximum are kept, oldest first, so that a
+ * long-running Server holds only a bounded number of jobs.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+final class Server implements AutoCloseable {
+	public static Integer DEFAULT_PORT = 7070;
+	public static Duration DEFAULT_JOB_RETENTION = Duration.ofHours(1);
+	public static Integer DEFAULT_MAXIMUM_JOBS = 256;
+	static String JOBS_PATH = "/jobs";
+
+	static Logger _logger = Logger.getLogger(Server.class.getName());
+	static ObjectMapper _mapper = new ObjectMapper();
+
+	HttpServer server;
+	ExecutorService handlers;
+	Launcher launcher;
+	Duration retention;
+	int maximum;
+
+	Map<String, Job> jobs = new ConcurrentHashMap<>();
+	AtomicLong sequence = new AtomicLong();
+	AtomicBoolean closed = new AtomicBoolean();
+	CountDownLatch stopped = new CountDownLatch(1);
+
+	/**
+	 * Server Constructor.
+	 *
+	 * @param address   Address to listen on
+	 * @param launcher  Launcher to create and schedule the tasks of each job with
+	 * @param retention Time a finished job is kept for before it is forgotten
+	 * @param maximum   Maximum number of finished jobs kept
+	 * @throws IOException When the address can not be bound
+	 */
+	Server(
+			final @NonNull InetSocketAddress address,
+			final @NonNull Launcher launcher,
+			final @NonNull Duration retention,
+			final int maximum) throws IOException {
+		this.launcher = launcher;
+		this.retention = retention;
+		this.maximum = maximum;
+		server = HttpServer.create(address, 0);
+		handlers = Executors.newVirtualThreadPerTaskExecutor();
+		server.setExecutor(handlers);
+		server.createContext(JOBS_PATH, this::handle);
+	}
+
+	/**
+	 * Starts accepting requests.
+	 */
+	void start() {
+		server.start();
+		_logger.info(String.format("Server :: Serving jobs on %s", server.getAddress()));
+	}
+
+	/**
+	 * Waits until this Server is {@link #close() closed}.
+	 *
+	 * @throws InterruptedException When interrupted while waiting
+	 */
+	void await() throws InterruptedException {
+		stopped.await();
+	}
+
+	/**
+	 * Routes a request to its handler, responding with an error when the
+	 * request is malformed or its job does not exist.
+	 *
+	 * @param exchange Exchange of the request
+	 * @throws IOException When the response can not be written
+	 */
+	private void handle(final HttpExchange exchange) throws IOException {
+		try {
+			evict();
+			final String path = exchange.getRequestURI().getPath();
+			final String identifier = path.length() > JOBS_PATH.length() + 1
+					? path.substring(JOBS_PATH.length() + 1)
+					: null;
+			final String method = exchange.getRequestMethod();
+			if (identifier == null && method.equals("POST")) {
+				submit(exchange);
+			} else if (identifier == null && method.equals("GET")) {
+				final ArrayNode listed = _mapper.createArrayNode();
+				jobs.values().forEach((job) -> listed.add(job.summary()));
+				respond(exchange, 200, listed);
+			} else if (identifier == null) {
+				respond(exchange, 405, error("Method not allowed : %s", method));
+			} else {
+				final Job job = jobs.get(identifier);
+				if (job == null) {
+					respond(exchange, 404, error("Unknown job : %s", identifier));
+				} else if (method.equals("GET")) {
+					respond(exchange, 200, job.report());
+				} else if (method.equals("DELETE")) {
+					respond(exchange, cancel(job) ? 202 : 204, null);
+				} else {
+					respond(exchange, 405, error("Method not allowed : %s", method));
+				}
+			}
+		} catch (final RuntimeException exception) {
+			_logger.warning(String.format("Server :: Failed to handle request %s", exception.getMessage()));
+			respond(exchange, 500, error("Failed to handle request : %s", exception.getMessage()));
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Submits a job from the arguments or pipeline held by the body of a
+	 * request.
+	 *
+	 * @param exchange Exchange of the request
+	 * @throws IOException When the request can not be read or the response
+	 *                     written
+	 */
+	private void submit(final HttpExchange exchange) throws IOException {
+		final JsonNode node;
+		try (InputStream body = exchange.getRequestBody()) {
+			node = _mapper.readTree(body);
+		} catch (final JsonProcessingException exception) {
+			respond(exchange, 400, error("Malformed job : %s", exception.getOriginalMessage()));
+			return;
+		}
+		if (node == null || !(node.isArray() || node.isObject())) {
+			respond(exchange, 400, error("Job must be an array of arguments or a pipeline"));
+			return;
+		}
+		final List<Task<?, ?>> tasks;
+		try {
+			tasks = launcher.launch(node);
+		} catch (final ParseException exception) {
+			respond(exchange, 400, error("Could not parse job : %s", exception.getMessage()));
+			return;
+		}
+		final CompletableFuture<Instant> finished = CompletableFuture
+				.allOf(tasks.stream()
+						.map(Task::completable)
+						.toArray(CompletableFuture[]::new))
+				.handle((ignored, throwable) -> Instant.now());
+		final Job job = new Job(Long.toString(sequence.incrementAndGet()), tasks, Instant.now(), finished);
+		jobs.put(job.identifier(), job);
+		finished.thenRun(this::evict);
+		_logger.info(String.format("Server :: Submitted job %s with %d task(s)", job.identifier(), tasks.size()));
+		exchange.getResponseHeaders().set("Location", String.format("%s/%s", JOBS_PATH, job.identifier()));
+		respond(exchange, 201, job.report());
+	}
+
+	/**
+	 * Cancels a job which is still running, otherwise forgets it.
+	 *
+	 * @param job Job to cancel
+	 * @return True when the job was running and has been cancelled
+	 */
+	private boolean cancel(final @NonNull Job job) {
+		if (job.isDone()) {
+			jobs.remove(job.identifier());
+			return false;
+		}
+		job.tasks().forEach((task) -> task.completable().cancel(true));
+		_logger.info(String.format("Server :: Cancelled job %s", job.identifier()));
+		return true;
+	}
+
+	/**
+	 * Forgets every finished job kept for longer than the job retention, then
+	 * the oldest finished jobs until no more than the maximum are kept.
+	 */
+	private void evict() {
+		final Instant expired = Instant.now().minus(retention);
+		jobs.values().removeIf((job) -> job.isDone() && job.finished().join().isBefore(expired));
+		final List<Job> finished = jobs.values().stream()
+				.filter(Job::isDone)
+				.sorted(Comparator.comparing((Job job) -> job.finished().join()))
+				.toList();
+		for (int index = 0; index < finished.size() - maximum; index++) {
+			jobs.remove(finished.get(index).identifier());
+		}
+	}
+
+	/**
+	 * Writes a response, with a JSON body unless none is given.
+	 *
+	 * @param exchange Exchange to respond to
+	 * @param status   HTTP status of the response
+	 * @param body     Body of the response, or null for none
+	 * @throws IOException When the response can not be written
+	 */
+	private static void respond(final HttpExchange exchange, final int status, final JsonNode body)
+			throws IOException {
+		if (body == null) {
+			exchange.sendResponseHeaders(status, -1);
+			return;
+		}
+		final byte[] content = _mapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, content.length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(content);
+		}
+	}
+
+	/**
+	 * Creates the body of an error response.
+	 *
+	 * @param format    Format of the error message
+	 * @param arguments Arguments of the format
+	 * @return Error response body
+	 */
+	private static ObjectNode error(final String format, final Object... arguments) {
+		return _mapper.createObjectNode().put("error", String.format(format, arguments));
+	}
+
+	/**
+	 * Stops accepting requests, and cancels every job still running.
+	 */
+	@Override
+	public void close() {
+		if (!closed.compareAndSet(false, true)) {
+			return;
+		}
+		server.stop(0);
+		handlers.shutdown();
+		jobs.values().stream()
+				.filter((job) -> !job.isDone())
+				.forEach(this::cancel);
+		stopped.countDown();
+		_logger.info("Server :: Stopped serving jobs");
+	}
+
+	/**
+	 * Creates and schedules the tasks of a job.
+	 */
+	@FunctionalInterface
+	static interface Launcher {
+
+		/**
+		 * Creates and schedules the tasks of a job.
+		 *
+		 * @param job Job submitted, as an array of the arguments given on the
+		 *            command line or as a pipeline
+		 * @return Every task of the job, each of which has been scheduled
+		 * @throws ParseException When the job does not describe a schedulable
+		 *                        Task graph
+		 */
+		List<Task<?, ?>> launch(final JsonNode job) throws ParseException;
+	}
+
+	/**
+	 * A submitted Task graph.
+	 *
+	 * @param identifier Identifier of the job
+	 * @param tasks      Every task of the job
+	 * @param submitted  Time the job was submitted
+	 * @param finished   Time every task of the job finished, once they have
+	 */
+	private static record Job(
+			String identifier,
+			List<Task<?, ?>> tasks,
+			Instant submitted,
+			CompletableFuture<Instant> finished) {
+
+		/**
+		 * Provides whether every task of this job has finished.
+		 *
+		 * @return True once every task has completed, failed or been cancelled
+		 */
+		boolean isDone() {
+			return finished.isDone();
+		}
+
+		/**
+		 * Provides the state of this job as a whole.
+		 *
+		 * @return `RUNNING` while any task has not finished, otherwise `FAILED`
+		 *         when any task failed, otherwise `COMPLETED`
+		 */
+		String state() {
+			if (!isDone()) {
+				return "RUNNING";
+			}
+			return tasks.stream().anyMatch((task) -> task.getState() == State.FAILED)
+					? State.FAILED.name()
+					: State.COMPLETED.name();
+		}
+
+		/**
+		 * Summarizes this job, without the report of each task.
+		 *
+		 * @return Summary of the job
+		 */
+		ObjectNode summary() {
+			final ObjectNode summary = _mapper.createObjectNode()
+					.put("id", identifier)
+					.put("state", state())
+					.put("submitted", submitted.toString());
+			if (isDone()) {
+				summary.put("finished", finished.join().toString());
+			}
+			return summary;
+		}
+
+		/**
+		 * Reports on this job, including the report of each task.
+		 *
+		 * @return Report of the job
+		 */
+		ObjectNode report() {
+			final ObjectNode report = summary();
+			final ArrayNode reports = report.putArray("tasks");
+			for (final Task<?, ?> task : tasks) {
+				reports.addObject()
+						.put("id", task.getIdentifier())
+						.put("name", task.getName())
+						.put("state", task.getState().name())
+						.put("processed", task.getMetrics().getProcessed())
+						.put("collected", task.getMetrics().getCollected())
+						.put("report", task.getReport());
+			}
+			return report;
+		}
+	}
+}
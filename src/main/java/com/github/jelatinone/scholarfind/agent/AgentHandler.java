@@ -1,10 +1,35 @@
 package com.github.jelatinone.scholarfind.agent;
 
 import java.io.Closeable;
+import java.time.Duration;
 
 import lombok.NonNull;
 
 public interface AgentHandler<Stub> extends Closeable {
 
 	public abstract Stub annotate(final @NonNull String page);
+
+	/**
+	 * Annotates a page, giving up once a timeout has elapsed.
+	 * 
+	 * @param page    Content to annotate
+	 * @param timeout Maximum time to wait for the annotation
+	 * @return Annotation of the page, which may be null
+	 *
+	 * @implSpec The default implementation ignores the timeout
+	 */
+	public default Stub annotate(final @NonNull String page, final @NonNull Duration timeout) {
+		return annotate(page);
+	}
+
+	/**
+	 * Provides whether a failure thrown while annotating signals that the agent
+	 * is overloaded, such as being rate limited.
+	 * 
+	 * @param failure Failure thrown while annotating
+	 * @return True when requests to the agent should back off
+	 */
+	public default boolean overloaded(final @NonNull Throwable failure) {
+		return false;
+	}
 }
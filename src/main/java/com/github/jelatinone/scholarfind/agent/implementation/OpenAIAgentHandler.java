@@ -1,11 +1,18 @@
 package com.github.jelatinone.scholarfind.agent.implementation;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
 import com.github.jelatinone.scholarfind.agent.AgentHandler;
 import com.openai.client.OpenAIClient;
 import com.openai.client.okhttp.OpenAIOkHttpClient;
+import com.openai.core.RequestOptions;
+import com.openai.errors.OpenAIServiceException;
+import com.openai.errors.RateLimitException;
 import com.openai.models.ChatModel;
 import com.openai.models.chat.completions.StructuredChatCompletion.Choice;
 import com.openai.models.chat.completions.ChatCompletionCreateParams;
@@ -15,16 +22,27 @@ import com.openai.models.chat.completions.StructuredChatCompletionCreateParams;
 import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class OpenAIAgentHandler<Stub> implements AgentHandler<Stub> {
 
 	static String DEFAULT_ENV_API_KEY = "OPENAI_API_KEY";
+	static String DEFAULT_ENV_BASE_URL = "OPENAI_BASE_URL";
+	public static String DEFAULT_PROPERTY_API_KEY = "openai.apiKey";
+	public static String DEFAULT_PROPERTY_BASE_URL = "openai.baseUrl";
 
 	static Logger _logger = Logger.getLogger(OpenAIAgentHandler.class.getName());
 
+	static ReentrantLock _sharing = new ReentrantLock();
+	@NonFinal
+	static OpenAIClient _shared = null;
+	@NonFinal
+	static int _holders = 0;
+
 	String prompt;
 	OpenAIClient client;
+	AtomicBoolean closed = new AtomicBoolean();
 
 	Class<Stub> responseFormat;
 
@@ -32,33 +50,118 @@ public class OpenAIAgentHandler<Stub> implements AgentHandler<Stub> {
 		this.prompt = prompt;
 		this.responseFormat = responseFormat;
 
-		client = OpenAIOkHttpClient.builder()
-				.apiKey(System.getenv(
-						DEFAULT_ENV_API_KEY))
-				.build();
+		client = acquireClient();
+	}
+
+	/**
+	 * Holds the client shared by every handler open, so that it, and its pool of
+	 * connections, outlives the handlers which use it until released.
+	 * 
+	 * @return Hold on the shared client, which is released once closed
+	 */
+	public static Closeable retain() {
+		_sharing.lock();
+		try {
+			_holders++;
+		} finally {
+			_sharing.unlock();
+		}
+		final AtomicBoolean released = new AtomicBoolean();
+		return () -> {
+			if (released.compareAndSet(false, true)) {
+				releaseClient();
+			}
+		};
+	}
+
+	/**
+	 * Provides the client shared by every handler, creating it if none is held.
+	 * The API key and base URL are each read from a system property, falling
+	 * back to an environment variable, so that requests may be pointed at any
+	 * OpenAI compatible endpoint.
+	 * 
+	 * @return Shared client, which must be {@link #releaseClient() released}
+	 */
+	private static OpenAIClient acquireClient() {
+		_sharing.lock();
+		try {
+			if (_shared == null) {
+				OpenAIOkHttpClient.Builder builder = OpenAIOkHttpClient.builder()
+						.apiKey(System.getProperty(DEFAULT_PROPERTY_API_KEY,
+								System.getenv(DEFAULT_ENV_API_KEY)));
+				String baseUrl = System.getProperty(DEFAULT_PROPERTY_BASE_URL,
+						System.getenv(DEFAULT_ENV_BASE_URL));
+				if (baseUrl != null) {
+					builder.baseUrl(baseUrl);
+				}
+				_shared = builder.build();
+			}
+			_holders++;
+			return _shared;
+		} finally {
+			_sharing.unlock();
+		}
+	}
+
+	/**
+	 * Releases a hold on the shared client, closing it once nothing holds it.
+	 */
+	private static void releaseClient() {
+		_sharing.lock();
+		try {
+			if (--_holders == 0 && _shared != null) {
+				_shared.close();
+				_shared = null;
+			}
+		} finally {
+			_sharing.unlock();
+		}
 	}
 
 	@Override
-	public synchronized void close() throws IOException {
-		synchronized (client) {
-			client.close();
+	public void close() throws IOException {
+		if (closed.compareAndSet(false, true)) {
+			releaseClient();
 		}
 	}
 
 	@Override
 	public Stub annotate(@NonNull String content) {
-		StructuredChatCompletionCreateParams<Stub> params = ChatCompletionCreateParams.builder()
+		StructuredChatCompletion<Stub> completion = client.chat()
+				.completions()
+				.create(params(content));
+		return choose(completion);
+	}
+
+	@Override
+	public Stub annotate(@NonNull String content, @NonNull Duration timeout) {
+		RequestOptions options = RequestOptions.builder()
+				.timeout(timeout)
+				.build();
+		StructuredChatCompletion<Stub> completion = client.chat()
+				.completions()
+				.create(params(content), options);
+		return choose(completion);
+	}
+
+	@Override
+	public boolean overloaded(@NonNull Throwable failure) {
+		if (failure instanceof RateLimitException) {
+			return true;
+		}
+		return failure instanceof OpenAIServiceException exception && exception.statusCode() >= 500;
+	}
+
+	private StructuredChatCompletionCreateParams<Stub> params(final @NonNull String content) {
+		return ChatCompletionCreateParams.builder()
 				.addSystemMessage(prompt)
 				.addUserMessage(content)
 				.model(ChatModel.O4_MINI)
 				.responseFormat(responseFormat)
 				.build();
-		StructuredChatCompletion<Stub> completion;
-		synchronized (client) {
-			completion = client.chat()
-					.completions()
-					.create(params);
-		}
+	}
+
+	private Stub choose(final @NonNull StructuredChatCompletion<Stub> completion) {
 		Choice<Stub> choice = completion.choices().get(0);
 		Stub stub = choice.message()
 				.content()
@@ -0,0 +1,261 @@
+package com.github.jelatinone.scholarfind.json;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+/**
+ * <h1>ChunkedReader</h1>
+ *
+ * <p>
+ * Reads a file of {@link JsonFormat#NDJSON newline delimited} documents by
+ * memory mapping it, splitting it into chunks at line boundaries, and binding
+ * the lines of each chunk on a {@link ForkJoinPool}, so that parsing a large
+ * file is spread across every thread of the pool rather than bound to the
+ * single thread reading it.
+ * </p>
+ *
+ * <p>
+ * Only a few chunks per thread are mapped and parsed ahead of the reader at
+ * once, so that memory is bounded however large the file. Elements are yielded
+ * either in the order of the file, or in whatever order their chunks finish
+ * parsing.
+ * </p>
+ *
+ * @param <Element> Type each line is bound into
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+final class ChunkedReader<Element> implements Iterator<Element>, Closeable {
+	static Integer DEFAULT_CHUNK_SIZE = 4 << 20;
+	static Integer DEFAULT_SCAN_SIZE = 64 << 10;
+	static Integer CHUNKS_PER_THREAD = 2;
+
+	static Logger _logger = Logger.getLogger(ChunkedReader.class.getName());
+
+	FileChannel channel;
+	ObjectReader binder;
+	ForkJoinPool pool;
+	boolean ordered;
+	int window;
+	long size;
+
+	Deque<Future<List<Element>>> parsing = new ArrayDeque<>();
+	CompletionService<List<Element>> completed;
+
+	@NonFinal
+	long position = 0;
+	@NonFinal
+	int outstanding = 0;
+	@NonFinal
+	Iterator<Element> current = Collections.emptyIterator();
+
+	/**
+	 * Chunked Reader Constructor.
+	 *
+	 * @param file        Newline delimited JSON file to read from
+	 * @param binder      Reader to bind each line with
+	 * @param parallelism Number of threads to parse chunks with
+	 * @param ordered     Whether to yield elements in the order of the file
+	 * @throws IOException When a critical IO failure occurs while opening the
+	 *                     file
+	 */
+	ChunkedReader(
+			final @NonNull File file,
+			final @NonNull ObjectReader binder,
+			final int parallelism,
+			final boolean ordered) throws IOException {
+		this.binder = binder;
+		this.ordered = ordered;
+		channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		size = channel.size();
+		pool = new ForkJoinPool(parallelism);
+		window = parallelism * CHUNKS_PER_THREAD;
+		completed = new ExecutorCompletionService<>(pool);
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (!current.hasNext()) {
+			fill();
+			if (outstanding == 0) {
+				return false;
+			}
+			current = take().iterator();
+		}
+		return true;
+	}
+
+	@Override
+	public Element next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return current.next();
+	}
+
+	/**
+	 * Splits off and submits further chunks until as many as the window allows
+	 * are being parsed, or the whole file has been submitted.
+	 */
+	private void fill() {
+		try {
+			while (outstanding < window && position < size) {
+				final long start = position;
+				final long end = start + DEFAULT_CHUNK_SIZE >= size
+						? size
+						: boundary(start + DEFAULT_CHUNK_SIZE - 1);
+				if (ordered) {
+					parsing.add(pool.submit(() -> parse(start, end)));
+				} else {
+					completed.submit(() -> parse(start, end));
+				}
+				position = end;
+				outstanding++;
+			}
+		} catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	/**
+	 * Waits for the next chunk to finish parsing, which is the earliest submitted
+	 * chunk when ordered, otherwise whichever finishes first.
+	 *
+	 * @return Elements bound from the chunk
+	 */
+	private List<Element> take() {
+		try {
+			final Future<List<Element>> chunk = ordered ? parsing.poll() : completed.take();
+			outstanding--;
+			return chunk.get();
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Chunked read was interrupted");
+		} catch (final ExecutionException exception) {
+			final Throwable cause = exception.getCause();
+			if (cause instanceof IOException failure) {
+				throw new UncheckedIOException(failure);
+			}
+			if (cause instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Finds the end of the line holding a given offset.
+	 *
+	 * @param from Offset to search from
+	 * @return Offset just past the next newline, or the size of the file when no
+	 *         newline follows
+	 * @throws IOException When a critical IO failure occurs while mapping the
+	 *                     file
+	 */
+	private long boundary(final long from) throws IOException {
+		long offset = from;
+		while (offset < size) {
+			final int length = (int) Math.min(DEFAULT_SCAN_SIZE, size - offset);
+			final MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+			for (int index = 0; index < length; index++) {
+				if (region.get(index) == '\n') {
+					return offset + index + 1;
+				}
+			}
+			offset += length;
+		}
+		return size;
+	}
+
+	/**
+	 * Binds every line of a chunk, skipping blank lines and any line which is
+	 * malformed or can not be bound.
+	 *
+	 * @param start Offset of the first byte of the chunk
+	 * @param end   Offset just past the last byte of the chunk
+	 * @return Elements bound from the chunk, in the order of their lines
+	 * @throws IOException When a critical IO failure occurs while mapping the
+	 *                     file
+	 */
+	private List<Element> parse(final long start, final long end) throws IOException {
+		if (end - start > Integer.MAX_VALUE) {
+			throw new IOException(String.format("Line at %d is too long to map", start));
+		}
+		final MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+		final byte[] content = new byte[region.remaining()];
+		region.get(content);
+
+		final List<Element> elements = new ArrayList<>();
+		int from = 0;
+		while (from < content.length) {
+			int to = from;
+			while (to < content.length && content[to] != '\n') {
+				to++;
+			}
+			if (!blank(content, from, to)) {
+				try {
+					final Element element = binder.readValue(content, from, to - from);
+					if (element != null) {
+						elements.add(element);
+					}
+				} catch (final JsonProcessingException exception) {
+					_logger.warning(String.format("ChunkedReader :: Skipped malformed line %s",
+							exception.getOriginalMessage()));
+				}
+			}
+			from = to + 1;
+		}
+		return elements;
+	}
+
+	/**
+	 * Provides whether a line holds only whitespace.
+	 *
+	 * @param content Content holding the line
+	 * @param from    Offset of the first byte of the line
+	 * @param to      Offset just past the last byte of the line
+	 * @return True when the line is blank
+	 */
+	private static boolean blank(final byte[] content, final int from, final int to) {
+		for (int index = from; index < to; index++) {
+			if (content[index] > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		pool.shutdownNow();
+		channel.close();
+	}
+}
@@ -0,0 +1,57 @@
+package com.github.jelatinone.scholarfind.json;
+
+import java.io.FileDescriptor;
+import java.io.Flushable;
+import java.io.IOException;
+
+import lombok.NonNull;
+
+/**
+ *
+ * <h1>Durability</h1>
+ *
+ * <p>
+ * How far buffered writes are pushed each time a writer
+ * {@link GroupCommit commits} them, trading write throughput for how much may
+ * be lost should the process or machine fail.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+public enum Durability {
+	/**
+	 * Writes are left buffered until the buffer fills or the writer is closed,
+	 * and may be lost should the process fail.
+	 */
+	NONE,
+
+	/**
+	 * Writes are handed to the operating system, and survive the process failing
+	 * but not the machine.
+	 */
+	FLUSH,
+
+	/**
+	 * Writes are handed to the operating system and synchronized to the
+	 * underlying device, and survive the machine failing.
+	 */
+	FSYNC;
+
+	/**
+	 * Commits buffered writes as far as this Durability requires.
+	 *
+	 * @param buffer     Buffer holding the writes
+	 * @param descriptor Descriptor of the file written to
+	 * @throws IOException When a critical IO failure occurs while flushing or
+	 *                     synchronizing
+	 */
+	public void commit(final @NonNull Flushable buffer, final @NonNull FileDescriptor descriptor) throws IOException {
+		if (this == NONE) {
+			return;
+		}
+		buffer.flush();
+		if (this == FSYNC) {
+			descriptor.sync();
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.github.jelatinone.scholarfind.json;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import lombok.NonNull;
+
+/**
+ *
+ * <h1>GroupCommit</h1>
+ *
+ * <p>
+ * Describes how often a writer commits the writes it has buffered: once a
+ * number of writes are pending, once an interval has passed since the last
+ * commit, or whenever a commit is explicitly asked for, each commit being as
+ * {@link Durability durable} as configured.
+ * </p>
+ *
+ * @param durability How far each commit pushes buffered writes
+ * @param size       Number of pending writes which triggers a commit
+ * @param interval   Longest time writes remain pending before being committed,
+ *                   or zero to commit only by size
+ *
+ * @author Cody Washington
+ */
+public record GroupCommit(
+		@NonNull Durability durability,
+		int size,
+		@NonNull Duration interval) {
+	public static GroupCommit DEFAULT = new GroupCommit(Durability.FLUSH, 1, Duration.ZERO);
+
+	static ScheduledExecutorService _committer = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+		Thread thread = new Thread(runnable, "group-commit-timer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public GroupCommit {
+		if (size < 1) {
+			throw new IllegalArgumentException(String.format("Invalid commit size : %d", size));
+		}
+		if (interval.isNegative()) {
+			throw new IllegalArgumentException(String.format("Invalid commit interval : %s", interval));
+		}
+	}
+
+	/**
+	 * Provides whether pending writes are due to be committed.
+	 *
+	 * @param pending   Number of writes since the last commit
+	 * @param committed Time, in {@link System#nanoTime() nanoseconds}, of the
+	 *                  last commit
+	 * @return True when enough writes are pending, or they have been pending for
+	 *         long enough
+	 */
+	public boolean due(final int pending, final long committed) {
+		return pending >= size
+				|| (pending > 0 && !interval.isZero() && System.nanoTime() - committed >= interval.toNanos());
+	}
+
+	/**
+	 * Schedules a check for pending writes every interval, so that writes are
+	 * committed on time even while no further writes arrive.
+	 *
+	 * @param check Check to run, which commits pending writes when
+	 *              {@link #due(int, long) due}
+	 * @return Scheduled check, or null when this GroupCommit has no interval
+	 */
+	public ScheduledFuture<?> schedule(final @NonNull Runnable check) {
+		if (interval.isZero()) {
+			return null;
+		}
+		final long period = interval.toNanos();
+		return _committer.scheduleWithFixedDelay(check, period, period, TimeUnit.NANOSECONDS);
+	}
+}
@@ -0,0 +1,76 @@
+package com.github.jelatinone.scholarfind.json;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import lombok.NonNull;
+
+/**
+ * <h1>JsonFormat</h1>
+ *
+ * <p>
+ * Layouts a {@link JsonHandler} may write documents in. Readers
+ * {@link #detect(File, JsonFactory) detect} the layout of a file from its
+ * content, so that a file of either layout may be read wherever results are
+ * read.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+public enum JsonFormat {
+	/**
+	 * A single object holding every document in its `results` array, which is
+	 * read and rewritten in full each time it is opened for writing.
+	 */
+	DOCUMENT(".json"),
+
+	/**
+	 * Newline delimited JSON, holding one document per line, which is only ever
+	 * appended to, so that opening it for writing takes constant time however
+	 * large it has grown.
+	 */
+	NDJSON(".ndjson");
+
+	private final String extension;
+
+	private JsonFormat(final String extension) {
+		this.extension = extension;
+	}
+
+	/**
+	 * Provides the file extension of this layout.
+	 *
+	 * @return File extension, including its leading period
+	 */
+	public String getExtension() {
+		return extension;
+	}
+
+	/**
+	 * Detects the layout of a file from its content. A file is a
+	 * {@link #DOCUMENT} when it opens with a `results` array, and is otherwise
+	 * {@link #NDJSON}.
+	 *
+	 * @param file    File to detect the layout of
+	 * @param factory Factory to parse the file with
+	 * @return Layout of the file, or null when it does not exist or is empty
+	 * @throws IOException When a critical IO failure occurs during read operation
+	 */
+	public static JsonFormat detect(final @NonNull File file, final @NonNull JsonFactory factory) throws IOException {
+		if (!file.exists() || file.length() == 0) {
+			return null;
+		}
+		try (JsonParser parser = factory.createParser(file)) {
+			return parser.nextToken() == JsonToken.START_OBJECT
+					&& parser.nextToken() == JsonToken.FIELD_NAME
+					&& "results".equals(parser.getCurrentName())
+					&& parser.nextToken() == JsonToken.START_ARRAY
+							? DOCUMENT
+							: NDJSON;
+		}
+	}
+}
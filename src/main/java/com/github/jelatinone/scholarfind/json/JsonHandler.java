@@ -1,22 +1,29 @@
 package com.github.jelatinone.scholarfind.json;
 
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
 import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 
 /**
  * <h1>JsonHandler</h1>
@@ -26,119 +33,282 @@ import lombok.experimental.FieldDefaults;
  * serialized using a {@link #serializer}.
  * </p>
  * 
+ * <p>
+ * Documents are written in either {@link JsonFormat layout}: a single
+ * {@link JsonFormat#DOCUMENT document} is rewritten in full each time it is
+ * opened, while {@link JsonFormat#NDJSON newline delimited} documents are only
+ * ever appended to.
+ * </p>
+ * 
+ * <p>
+ * Written documents are buffered and {@link GroupCommit committed} together,
+ * once enough are pending, once they have been pending for long enough, or
+ * when a {@link #commit() commit} is asked for.
+ * </p>
+ * 
  * @author Cody Washington
  */
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class JsonHandler<Document> implements AutoCloseable {
 
+	public static String DEFAULT_PREVIOUS_LOCATION = "%s.previous";
+
 	static Logger _logger = Logger.getLogger(JsonHandler.class.getName());
 	static Map<String, JsonHandler<?>> _handlers = new ConcurrentHashMap<>();
 
 	JsonGenerator generator;
 	JsonSerializer<Document> serializer;
+	FileOutputStream stream;
 
 	String destination;
+	JsonFormat format;
+	GroupCommit policy;
+	ScheduledFuture<?> ticker;
 	AtomicInteger references = new AtomicInteger();
+	ReentrantLock lock = new ReentrantLock();
+
+	@NonFinal
+	int pending = 0;
+	@NonFinal
+	long committed = System.nanoTime();
 
 	/**
-	 * JSON Handler Constructor.
+	 * JSON Handler Constructor. An existing {@link JsonFormat#DOCUMENT document}
+	 * is moved {@link #DEFAULT_PREVIOUS_LOCATION aside} and its results streamed
+	 * back into the destination one at a time, so that a failure while doing so
+	 * leaves the previous results to be recovered by the next writer.
 	 * 
 	 * @param destination Target location to output {@link #writeDocument(Object)
 	 *                    write operations} to
 	 * @param serializer  {@link #serializer Serializer} to use to write to Target
 	 *                    destination file
-	 * @throws IOException When a critical IO failure occurs during construction
+	 * @param format      Layout to write documents in
+	 * @param policy      When to commit written documents
+	 * @throws IOException When a critical IO failure occurs during construction,
+	 *                     or the destination already holds documents of another
+	 *                     layout
 	 */
-	private JsonHandler(final @NonNull String destination, final @NonNull JsonSerializer<Document> serializer)
-			throws IOException {
+	private JsonHandler(
+			final @NonNull String destination,
+			final @NonNull JsonSerializer<Document> serializer,
+			final @NonNull JsonFormat format,
+			final @NonNull GroupCommit policy) throws IOException {
 		this.serializer = serializer;
 		this.destination = destination;
+		this.format = format;
+		this.policy = policy;
 
 		final JsonFactory factory = new JsonFactory();
 		final File file = new File(destination);
 
-		final ObjectMapper mapper = new ObjectMapper(factory);
-		final ArrayNode document = acquireContent(file, mapper);
+		final ObjectMapper mapper = new ObjectMapper(factory)
+				.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		final File previous = new File(String.format(DEFAULT_PREVIOUS_LOCATION, destination));
+		final JsonFormat existing = JsonFormat.detect(previous.exists() ? previous : file, factory);
+		if (existing != null && existing != format) {
+			throw new IOException(String.format("%s holds %s documents, not %s", destination, existing, format));
+		}
+
+		if (format == JsonFormat.NDJSON) {
+			final boolean torn = file.length() > 0 && !terminated(file);
+			stream = new FileOutputStream(file, true);
+			generator = factory.createGenerator(stream, JsonEncoding.UTF8);
+			generator.setRootValueSeparator(null);
+			if (torn) {
+				generator.writeRaw('\n');
+			}
+		} else {
+			if (file.exists() && !previous.exists()) {
+				Files.move(file.toPath(), previous.toPath());
+			}
 
-		final FileWriter writer = new FileWriter(file);
-		generator = factory.createGenerator(writer);
+			stream = new FileOutputStream(file);
+			generator = factory.createGenerator(stream, JsonEncoding.UTF8);
 
-		synchronized (generator) {
 			generator.writeStartObject();
 			generator.writeFieldName("results");
 
 			generator.writeStartArray();
 
-			for (final JsonNode entry : document) {
-				generator.writeTree(entry);
+			try (JsonReader<JsonNode> entries = streamContent(previous, mapper)) {
+				while (entries.hasNext()) {
+					generator.writeTree(entries.next());
+				}
 			}
-
 			generator.flush();
+			if (policy.durability() == Durability.FSYNC) {
+				stream.getFD().sync();
+			}
+			Files.deleteIfExists(previous.toPath());
 		}
+
+		generator.flush();
+		ticker = policy.schedule(this::tick);
 	}
 
 	/**
 	 * 
 	 * Synchronously writes a Document object to a JSON file using the internal
-	 * JsonGenerator and provided serializer, then flushes the content safely.
+	 * JsonGenerator and provided serializer, then commits the content once
+	 * enough documents are pending.
 	 * 
 	 * @param document Content to write to internal JSON file
 	 * @throws IOException When a critical IO failure occurs while trying to write
 	 *                     with the generator
 	 */
-	public synchronized void writeDocument(final @NonNull Document document) throws IOException {
+	public void writeDocument(final @NonNull Document document) throws IOException {
+		lock.lock();
 		try {
-			synchronized (generator) {
-				serializer.write(generator, document);
-				generator.flush();
+			serializer.write(generator, document);
+			delimit();
+			pending++;
+			if (policy.due(pending, committed)) {
+				sync();
 			}
 		} catch (final IOException exception) {
 			String message = "Failed to write JSON document";
 			_logger.severe(message);
 			throw exception;
+		} finally {
+			lock.unlock();
 		}
 	}
 
 	/**
 	 * 
 	 * Synchronously writes a Node object to a JSON file using the internal
-	 * JsonGenerator and provided serializer, then flushes the content safely.
+	 * JsonGenerator and provided serializer, then commits the content once
+	 * enough documents are pending.
 	 * 
 	 * @param node Content to write to internal JSON file
 	 * @throws IOException When a critical IO failure occurs while trying to write
 	 *                     with the generator
 	 */
-	public synchronized void writeDocument(final @NonNull JsonNode node) throws IOException {
+	public void writeDocument(final @NonNull JsonNode node) throws IOException {
+		lock.lock();
 		try {
-			synchronized(generator) {
-				generator.writeTree(node);
-				generator.flush();
+			generator.writeTree(node);
+			delimit();
+			pending++;
+			if (policy.due(pending, committed)) {
+				sync();
 			}
 		} catch (final IOException exception) {
 			String message = "Failed to write JSON document";
 			_logger.severe(message);
 			throw exception;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Commits every document written so far, as {@link GroupCommit#durability()
+	 * durably} as configured, regardless of how many are pending.
+	 * 
+	 * @throws IOException When a critical IO failure occurs while committing
+	 */
+	public void commit() throws IOException {
+		lock.lock();
+		try {
+			sync();
+		} catch (final IOException exception) {
+			String message = "Failed to commit JSON documents";
+			_logger.severe(message);
+			throw exception;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Commits pending documents once they have been pending for longer than the
+	 * configured interval, while no further documents arrive.
+	 */
+	private void tick() {
+		lock.lock();
+		try {
+			if (policy.due(pending, committed)) {
+				sync();
+			}
+		} catch (final IOException exception) {
+			_logger.warning(String.format("Failed to commit JSON documents : %s", exception.getMessage()));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Commits pending documents, if any.
+	 * 
+	 * @throws IOException When a critical IO failure occurs while committing
+	 * 
+	 * @apiNote Only called while holding the {@link #lock}
+	 */
+	private void sync() throws IOException {
+		if (pending == 0) {
+			return;
+		}
+		policy.durability().commit(generator, stream.getFD());
+		pending = 0;
+		committed = System.nanoTime();
+	}
+
+	/**
+	 * Ends the document just written with a newline when writing
+	 * {@link JsonFormat#NDJSON newline delimited} documents, so that each
+	 * occupies a line of its own.
+	 * 
+	 * @throws IOException When a critical IO failure occurs while writing
+	 */
+	private void delimit() throws IOException {
+		if (format == JsonFormat.NDJSON) {
+			generator.writeRaw('\n');
+		}
+	}
+
+	/**
+	 * Provides whether a file ends with a newline, so that a line left partially
+	 * written by a previous writer may be ended before appending to it.
+	 * 
+	 * @param file File to check
+	 * @return True when the last byte of the file is a newline
+	 * @throws IOException When a critical IO failure occurs during read operation
+	 */
+	private static boolean terminated(final @NonNull File file) throws IOException {
+		try (RandomAccessFile access = new RandomAccessFile(file, "r")) {
+			access.seek(access.length() - 1);
+			return access.read() == '\n';
 		}
 	}
- 
+
 	@Override
-	public synchronized void close() throws IOException {
+	public void close() throws IOException {
 		final int count = references.decrementAndGet();
 		if (count > 0) {
 			return;
 		}
+		if (ticker != null) {
+			ticker.cancel(false);
+		}
+		lock.lock();
 		try {
-			synchronized (generator) {
+			if (format == JsonFormat.DOCUMENT) {
 				generator.writeEndArray();
 				generator.writeEndObject();
-				generator.flush();
-				generator.close();
 			}
+			generator.flush();
+			if (policy.durability() == Durability.FSYNC) {
+				stream.getFD().sync();
+			}
+			pending = 0;
+			generator.close();
 		} catch (final IOException exception) {
 			String message = "Failed to close JSON writer safely";
 			_logger.severe(message);
 			throw exception;
 		} finally {
+			lock.unlock();
 			_handlers.remove(destination);
 		}
 	}
@@ -150,7 +320,9 @@ public class JsonHandler<Document> implements AutoCloseable {
 	 * </p>
 	 * 
 	 * <p>
-	 * If a writer already exists, a new instance is not created.
+	 * If a writer already exists, a new instance is not created. Otherwise
+	 * documents are written as a single {@link JsonFormat#DOCUMENT document}, each
+	 * committed as soon as it is written.
 	 * </p>
 	 * 
 	 * @param <Document>  Document type expect to write and read with
@@ -158,17 +330,64 @@ public class JsonHandler<Document> implements AutoCloseable {
 	 *                    write operations} to
 	 * @param serializer  {@link #serializer Serializer} to use to write to Target
 	 *                    destination file
-	 * @return An instance of {@link #JsonHandler(String, JsonSerializer)
+	 * @return An instance of
+	 *         {@link #JsonHandler(String, JsonSerializer, JsonFormat, GroupCommit)
 	 *         JsonHandler} which may or may not be in use by another thread
 	 * @throws IOException When a critical IO failure occurs during construction
 	 */
-	@SuppressWarnings("unchecked")
 	public static <Document> JsonHandler<Document> acquireWriter(
 			final @NonNull String destination,
 			final @NonNull JsonSerializer<Document> serializer) throws IOException {
+		return acquireWriter(destination, serializer, JsonFormat.DOCUMENT, GroupCommit.DEFAULT);
+	}
+
+	/**
+	 * Acquires a writer for a given file which writes documents in a given
+	 * layout, sharing any writer which already exists for the file.
+	 * 
+	 * @param <Document>  Document type expect to write and read with
+	 * @param destination Target location to output {@link #writeDocument(Object)
+	 *                    write operations} to
+	 * @param serializer  {@link #serializer Serializer} to use to write to Target
+	 *                    destination file
+	 * @param format      Layout to write documents in
+	 * @return An instance of JsonHandler which may or may not be in use by
+	 *         another thread
+	 * @throws IOException When a critical IO failure occurs during construction
+	 */
+	public static <Document> JsonHandler<Document> acquireWriter(
+			final @NonNull String destination,
+			final @NonNull JsonSerializer<Document> serializer,
+			final @NonNull JsonFormat format) throws IOException {
+		return acquireWriter(destination, serializer, format, GroupCommit.DEFAULT);
+	}
+
+	/**
+	 * Acquires a writer for a given file which writes documents in a given
+	 * layout, committing them together as described by a {@link GroupCommit},
+	 * sharing any writer which already exists for the file along with its
+	 * policy.
+	 * 
+	 * @param <Document>  Document type expect to write and read with
+	 * @param destination Target location to output {@link #writeDocument(Object)
+	 *                    write operations} to
+	 * @param serializer  {@link #serializer Serializer} to use to write to Target
+	 *                    destination file
+	 * @param format      Layout to write documents in
+	 * @param policy      When to commit written documents
+	 * @return An instance of JsonHandler which may or may not be in use by
+	 *         another thread
+	 * @throws IOException When a critical IO failure occurs during construction
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Document> JsonHandler<Document> acquireWriter(
+			final @NonNull String destination,
+			final @NonNull JsonSerializer<Document> serializer,
+			final @NonNull JsonFormat format,
+			final @NonNull GroupCommit policy) throws IOException {
 		final JsonHandler<Document> writer = (JsonHandler<Document>) _handlers.computeIfAbsent(destination, (target) -> {
 			try {
-				return new JsonHandler<>(destination, serializer);
+				return new JsonHandler<>(destination, serializer, format, policy);
 			} catch (final IOException exception) {
 				String message = "Failed to create JSON writer";
 				_logger.severe(message);
@@ -181,7 +400,9 @@ public class JsonHandler<Document> implements AutoCloseable {
 
 	/**
 	 * Acquires an {@link ArrayNode} from a given file using the supplied Object
-	 * mapper
+	 * mapper, {@link #streamContent(File, ObjectMapper) streaming} its results so
+	 * that only the results, and not the document holding them, are read into
+	 * memory
 	 * 
 	 * @param file   JSON file to pull data from
 	 * @param mapper JSON mapper to pull data with
@@ -193,18 +414,75 @@ public class JsonHandler<Document> implements AutoCloseable {
 			final @NonNull File file,
 			final @NonNull ObjectMapper mapper) throws IOException {
 
-		if (!file.exists() || file.length() == 0) {
-			return mapper.createArrayNode();
+		final ArrayNode content = mapper.createArrayNode();
+		try (JsonReader<JsonNode> reader = streamContent(file, mapper)) {
+			reader.forEachRemaining(content::add);
 		}
+		return content;
+	}
+
+	/**
+	 * Acquires a {@link JsonReader} over the `results` of a given file using the
+	 * supplied Object mapper, which reads one element at a time rather than the
+	 * entire file.
+	 *
+	 * @param file   JSON file to pull data from
+	 * @param mapper JSON mapper to pull data with
+	 * @return Reader of content, which may be empty if no results could be found,
+	 *         but never null
+	 * @throws IOException When a critical IO failure occurs during read operation
+	 */
+	public static JsonReader<JsonNode> streamContent(
+			final @NonNull File file,
+			final @NonNull ObjectMapper mapper) throws IOException {
+		return streamContent(file, mapper, JsonNode.class);
+	}
 
-		JsonNode root = mapper.readTree(file);
-		JsonNode results = root.get("results");
+	/**
+	 * Acquires a {@link JsonReader} over the `results` of a given file using the
+	 * supplied Object mapper, which binds one element at a time directly into a
+	 * given type rather than reading the entire file.
+	 *
+	 * @param <Element> Type each element is bound into
+	 * @param file      JSON file to pull data from
+	 * @param mapper    JSON mapper to pull data with
+	 * @param type      Type to bind each element into
+	 * @return Reader of content, which may be empty if no results could be found,
+	 *         but never null
+	 * @throws IOException When a critical IO failure occurs during read operation
+	 */
+	public static <Element> JsonReader<Element> streamContent(
+			final @NonNull File file,
+			final @NonNull ObjectMapper mapper,
+			final @NonNull Class<Element> type) throws IOException {
+		return new JsonReader<>(file, mapper, type);
+	}
 
-		if (results != null && results.isArray()) {
-			return (ArrayNode) results;
-		} else {
-			return mapper.createArrayNode();
-		}
+	/**
+	 * Acquires a {@link JsonReader} over the `results` of a given file using the
+	 * supplied Object mapper, which binds {@link JsonFormat#NDJSON newline
+	 * delimited} documents on several threads at once, in chunks of a memory
+	 * mapped file, and any other file one element at a time.
+	 *
+	 * @param <Element>   Type each element is bound into
+	 * @param file        JSON file to pull data from
+	 * @param mapper      JSON mapper to pull data with
+	 * @param type        Type to bind each element into
+	 * @param parallelism Number of threads to bind newline delimited documents
+	 *                    with
+	 * @param ordered     Whether documents bound in parallel are yielded in the
+	 *                    order of the file, otherwise as soon as they are bound
+	 * @return Reader of content, which may be empty if no results could be found,
+	 *         but never null
+	 * @throws IOException When a critical IO failure occurs during read operation
+	 */
+	public static <Element> JsonReader<Element> streamContent(
+			final @NonNull File file,
+			final @NonNull ObjectMapper mapper,
+			final @NonNull Class<Element> type,
+			final int parallelism,
+			final boolean ordered) throws IOException {
+		return new JsonReader<>(file, mapper, type, parallelism, ordered);
 	}
 
 }
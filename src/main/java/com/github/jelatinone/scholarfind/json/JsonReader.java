@@ -0,0 +1,233 @@
+package com.github.jelatinone.scholarfind.json;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+/**
+ * <h1>JsonReader</h1>
+ *
+ * <p>
+ * Reads the `results` of a JSON file written by a {@link JsonHandler} one
+ * element at a time, so that only a single element is held in memory however
+ * large the file. Each element is bound directly into the requested type,
+ * whether a tree or a typed record, without first reading the whole document.
+ * Files of {@link JsonFormat#NDJSON newline delimited} documents are read one
+ * line at a time, skipping any line left partially written or which can not be
+ * bound into the requested type, or when given several threads, are
+ * {@link ChunkedReader memory mapped} and bound in parallel chunks.
+ * </p>
+ *
+ * @param <Element> Type each element is bound into
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class JsonReader<Element> implements Iterator<Element>, Closeable {
+
+	static Logger _logger = Logger.getLogger(JsonReader.class.getName());
+
+	JsonParser parser;
+	BufferedReader lines;
+	ChunkedReader<Element> chunks;
+	ObjectReader binder;
+
+	@NonFinal
+	Element next = null;
+	@NonFinal
+	boolean exhausted = false;
+
+	/**
+	 * JSON Reader Constructor.
+	 *
+	 * @param file   JSON file to read from, which may not exist
+	 * @param mapper JSON mapper to read elements with
+	 * @param type   Type to bind each element into
+	 * @throws IOException When a critical IO failure occurs while seeking the
+	 *                     results of the file
+	 */
+	JsonReader(
+			final @NonNull File file,
+			final @NonNull ObjectMapper mapper,
+			final @NonNull Class<Element> type) throws IOException {
+		this(file, mapper, type, 1, true);
+	}
+
+	/**
+	 * JSON Reader Constructor.
+	 *
+	 * @param file        JSON file to read from, which may not exist
+	 * @param mapper      JSON mapper to read elements with
+	 * @param type        Type to bind each element into
+	 * @param parallelism Number of threads to bind newline delimited documents
+	 *                    with, reading them one line at a time when only one
+	 * @param ordered     Whether documents bound in parallel are yielded in the
+	 *                    order of the file
+	 * @throws IOException When a critical IO failure occurs while seeking the
+	 *                     results of the file
+	 */
+	JsonReader(
+			final @NonNull File file,
+			final @NonNull ObjectMapper mapper,
+			final @NonNull Class<Element> type,
+			final int parallelism,
+			final boolean ordered) throws IOException {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException(String.format("Invalid parallelism : %d", parallelism));
+		}
+		binder = mapper.readerFor(type);
+
+		final JsonFormat format = JsonFormat.detect(file, mapper.getFactory());
+		if (format == null) {
+			parser = null;
+			lines = null;
+			chunks = null;
+			exhausted = true;
+			return;
+		}
+		if (format == JsonFormat.NDJSON) {
+			parser = null;
+			if (parallelism > 1) {
+				lines = null;
+				chunks = new ChunkedReader<>(file, binder, parallelism, ordered);
+			} else {
+				lines = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+				chunks = null;
+			}
+			return;
+		}
+		lines = null;
+		chunks = null;
+		parser = mapper.getFactory().createParser(file);
+		seek();
+	}
+
+	/**
+	 * Positions the parser at the start of the `results` array, or marks this
+	 * reader as exhausted when the file has no results.
+	 *
+	 * @throws IOException When a critical IO failure occurs during read operation
+	 */
+	private void seek() throws IOException {
+		if (parser.nextToken() != JsonToken.START_OBJECT) {
+			exhausted = true;
+			return;
+		}
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			final String field = parser.getCurrentName();
+			final JsonToken value = parser.nextToken();
+			if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+				return;
+			}
+			parser.skipChildren();
+		}
+		exhausted = true;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next != null) {
+			return true;
+		}
+		if (exhausted) {
+			return false;
+		}
+		if (lines != null) {
+			return advance();
+		}
+		if (chunks != null) {
+			if (chunks.hasNext()) {
+				next = chunks.next();
+				return true;
+			}
+			exhausted = true;
+			return false;
+		}
+		try {
+			JsonToken token;
+			while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+				next = binder.readValue(parser);
+				if (next != null) {
+					return true;
+				}
+			}
+			exhausted = true;
+			return false;
+		} catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	/**
+	 * Reads the next line holding a document, skipping blank lines and any line
+	 * left partially written, such as by a writer which did not finish, or which
+	 * can not be bound.
+	 *
+	 * @return True when a document was read
+	 */
+	private boolean advance() {
+		try {
+			String line;
+			while ((line = lines.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				try {
+					next = binder.readValue(line);
+					if (next != null) {
+						return true;
+					}
+				} catch (final JsonProcessingException exception) {
+					_logger.warning(String.format("JsonReader :: Skipped malformed line %s",
+							exception.getOriginalMessage()));
+				}
+			}
+			exhausted = true;
+			return false;
+		} catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	@Override
+	public Element next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		final Element element = next;
+		next = null;
+		return element;
+	}
+
+	@Override
+	public void close() throws IOException {
+		exhausted = true;
+		if (parser != null) {
+			parser.close();
+		}
+		if (lines != null) {
+			lines.close();
+		}
+		if (chunks != null) {
+			chunks.close();
+		}
+	}
+}
@@ -0,0 +1,263 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import com.github.jelatinone.scholarfind.json.Durability;
+import com.github.jelatinone.scholarfind.json.GroupCommit;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+/**
+ *
+ * <h1>Checkpoint</h1>
+ *
+ * <p>
+ * Durably records the keys of every operand a {@link Task} has completed, one
+ * key per line, so that a restarted or resumed Task may skip them.
+ * </p>
+ *
+ * <p>
+ * Keys are {@link GroupCommit committed} together, and each commit first
+ * commits whatever the recorded operands produced, so that a key is never more
+ * durable than the result of its operand.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class Checkpoint implements Closeable {
+	public static String DEFAULT_CHECKPOINT_LOCATION = "%s.checkpoint";
+
+	static Logger _logger = Logger.getLogger(Checkpoint.class.getName());
+
+	Set<String> completed;
+	BufferedWriter writer;
+	FileOutputStream stream;
+	GroupCommit policy;
+	Flushable barrier;
+	ScheduledFuture<?> ticker;
+	ReentrantLock writing = new ReentrantLock();
+
+	@NonFinal
+	int pending = 0;
+	@NonFinal
+	long committed = System.nanoTime();
+
+	/**
+	 * Checkpoint Constructor.
+	 *
+	 * @param completed Keys of operands already completed
+	 * @param stream    Stream to append newly completed keys to, or null when
+	 *                  keys are only held in memory
+	 * @param policy    When to commit recorded keys
+	 * @param barrier   Results to commit before each commit of recorded keys
+	 */
+	private Checkpoint(
+			final @NonNull Set<String> completed,
+			final FileOutputStream stream,
+			final @NonNull GroupCommit policy,
+			final @NonNull Flushable barrier) {
+		this.completed = completed;
+		this.stream = stream;
+		this.policy = policy;
+		this.barrier = barrier;
+		writer = stream != null
+				? new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8))
+				: null;
+		ticker = stream != null ? policy.schedule(this::tick) : null;
+	}
+
+	/**
+	 * Acquires a Checkpoint at a given location.
+	 *
+	 * @param location Location of the checkpoint file
+	 * @param resume   Whether to keep the keys recorded by a previous run,
+	 *                 otherwise the checkpoint file is truncated
+	 * @return Checkpoint recording to the given location
+	 * @throws IOException When a critical IO failure occurs while reading or
+	 *                     opening the checkpoint file
+	 */
+	public static Checkpoint acquire(final @NonNull Path location, final boolean resume) throws IOException {
+		return acquire(location, resume, GroupCommit.DEFAULT, () -> {
+		});
+	}
+
+	/**
+	 * Acquires a Checkpoint at a given location, which commits recorded keys
+	 * together.
+	 *
+	 * @param location Location of the checkpoint file
+	 * @param resume   Whether to keep the keys recorded by a previous run,
+	 *                 otherwise the checkpoint file is truncated
+	 * @param policy   When to commit recorded keys
+	 * @param barrier  Results to commit before each commit of recorded keys
+	 * @return Checkpoint recording to the given location
+	 * @throws IOException When a critical IO failure occurs while reading or
+	 *                     opening the checkpoint file
+	 */
+	public static Checkpoint acquire(
+			final @NonNull Path location,
+			final boolean resume,
+			final @NonNull GroupCommit policy,
+			final @NonNull Flushable barrier) throws IOException {
+		final Set<String> completed = ConcurrentHashMap.newKeySet();
+		if (resume && Files.exists(location)) {
+			try (Stream<String> lines = Files.lines(location, StandardCharsets.UTF_8)) {
+				lines.filter((line) -> !line.isEmpty())
+						.forEach(completed::add);
+			}
+		}
+		final Path parent = location.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		final FileOutputStream stream = new FileOutputStream(location.toFile(), resume);
+		return new Checkpoint(completed, stream, policy, barrier);
+	}
+
+	/**
+	 * Acquires a Checkpoint which holds keys only in memory.
+	 *
+	 * @return Checkpoint which is never written to disk
+	 */
+	public static Checkpoint inMemory() {
+		return new Checkpoint(ConcurrentHashMap.newKeySet(), null, GroupCommit.DEFAULT, () -> {
+		});
+	}
+
+	/**
+	 * Provides whether an operand has already been completed.
+	 *
+	 * @param key Key of the operand
+	 * @return True when the operand was previously recorded
+	 */
+	public boolean contains(final @NonNull String key) {
+		return completed.contains(key);
+	}
+
+	/**
+	 * Records an operand as completed, and commits it to the checkpoint file once
+	 * enough keys are pending.
+	 *
+	 * @param key Key of the completed operand
+	 * @throws IOException When a critical IO failure occurs while writing
+	 */
+	public void record(final @NonNull String key) throws IOException {
+		if (!completed.add(key) || writer == null) {
+			return;
+		}
+		writing.lock();
+		try {
+			writer.write(key.replace('\n', ' '));
+			writer.newLine();
+			pending++;
+			if (policy.due(pending, committed)) {
+				sync();
+			}
+		} finally {
+			writing.unlock();
+		}
+	}
+
+	/**
+	 * Commits every key recorded so far, along with the results of their
+	 * operands.
+	 *
+	 * @throws IOException When a critical IO failure occurs while committing
+	 */
+	public void commit() throws IOException {
+		if (writer == null) {
+			return;
+		}
+		writing.lock();
+		try {
+			sync();
+		} finally {
+			writing.unlock();
+		}
+	}
+
+	/**
+	 * Commits pending keys once they have been pending for longer than the
+	 * configured interval, while no further keys are recorded.
+	 */
+	private void tick() {
+		writing.lock();
+		try {
+			if (policy.due(pending, committed)) {
+				sync();
+			}
+		} catch (final IOException exception) {
+			_logger.warning(String.format("Failed to commit checkpoint : %s", exception.getMessage()));
+		} finally {
+			writing.unlock();
+		}
+	}
+
+	/**
+	 * Commits the results of pending keys, then the pending keys themselves.
+	 *
+	 * @throws IOException When a critical IO failure occurs while committing
+	 *
+	 * @apiNote Only called while holding the {@link #writing} lock
+	 */
+	private void sync() throws IOException {
+		if (pending == 0) {
+			return;
+		}
+		barrier.flush();
+		policy.durability().commit(writer, stream.getFD());
+		pending = 0;
+		committed = System.nanoTime();
+	}
+
+	/**
+	 * Provides the number of operands recorded as completed.
+	 *
+	 * @return Position of this checkpoint
+	 */
+	public int getPosition() {
+		return completed.size();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (writer == null) {
+			return;
+		}
+		if (ticker != null) {
+			ticker.cancel(false);
+		}
+		writing.lock();
+		try {
+			if (pending > 0) {
+				barrier.flush();
+			}
+			writer.flush();
+			if (policy.durability() == Durability.FSYNC) {
+				stream.getFD().sync();
+			}
+			pending = 0;
+			writer.close();
+		} finally {
+			writing.unlock();
+		}
+	}
+}
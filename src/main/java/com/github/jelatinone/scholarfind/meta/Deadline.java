@@ -0,0 +1,170 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+/**
+ *
+ * <h1>Deadline</h1>
+ *
+ * <p>
+ * Bounds how long the current thread may spend operating on a single operand.
+ * While armed, the Deadline is visible to anything called on the same thread
+ * through {@link #remaining(Duration)}, so that page fetches and agent calls
+ * may shorten their own timeouts to fit within it. Once expired, the thread is
+ * interrupted, which stops any interruptible blocking call.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class Deadline implements AutoCloseable {
+	static ThreadLocal<Deadline> _current = new ThreadLocal<>();
+
+	static int ARMED = 0;
+	static int FIRING = 1;
+	static int EXPIRED = 2;
+	static int LAPSED = 3;
+	static int DISARMED = 4;
+
+	long expiry;
+	Thread thread;
+	AtomicInteger alarm;
+	ScheduledFuture<?> interruption;
+
+	/**
+	 * Deadline Constructor.
+	 *
+	 * @param expiry Time, in {@link System#nanoTime() nanoseconds}, at which the
+	 *               deadline expires
+	 * @param timer  Timer to schedule the interruption of the current thread with
+	 */
+	private Deadline(final long expiry, final @NonNull ScheduledExecutorService timer) {
+		this.expiry = expiry;
+		thread = Thread.currentThread();
+		alarm = new AtomicInteger(ARMED);
+		interruption = timer.schedule(this::interrupt, Math.max(expiry - System.nanoTime(), 0),
+				TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Arms a Deadline on the current thread, until it is {@link #close() closed}.
+	 *
+	 * @param expiry Time, in {@link System#nanoTime() nanoseconds}, at which the
+	 *               deadline expires
+	 * @param timer  Timer to schedule the interruption of the current thread with
+	 * @return Armed deadline
+	 */
+	static Deadline arm(final long expiry, final @NonNull ScheduledExecutorService timer) {
+		final Deadline deadline = new Deadline(expiry, timer);
+		_current.set(deadline);
+		return deadline;
+	}
+
+	/**
+	 * Provides the time remaining before the Deadline of the current thread
+	 * expires, bounded by a given timeout.
+	 *
+	 * @param timeout Timeout to use when the current thread has no deadline
+	 * @return Lesser of the timeout and the remaining time, which is never
+	 *         negative
+	 */
+	public static Duration remaining(final @NonNull Duration timeout) {
+		final Deadline deadline = _current.get();
+		if (deadline == null) {
+			return timeout;
+		}
+		final Duration remaining = Duration.ofNanos(Math.max(deadline.expiry - System.nanoTime(), 0));
+		return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+	}
+
+	/**
+	 * Provides the Deadline armed on the current thread.
+	 *
+	 * @return Armed deadline, or null when none is armed
+	 */
+	static Deadline current() {
+		return _current.get();
+	}
+
+	/**
+	 * Runs a call on the current thread within a Deadline armed on another
+	 * thread, so that the time it has remaining is visible to the call. The
+	 * Deadline still only interrupts the thread it was armed on.
+	 *
+	 * @param <Result> Type of result of the call
+	 * @param deadline Deadline to run within, or null for none
+	 * @param call     Call to run
+	 * @return Result of the call
+	 */
+	static <Result> Result within(final Deadline deadline, final @NonNull Supplier<Result> call) {
+		if (deadline == null) {
+			return call.get();
+		}
+		_current.set(deadline);
+		try {
+			return call.get();
+		} finally {
+			_current.remove();
+		}
+	}
+
+	/**
+	 * Interrupts the thread this Deadline was armed on, unless it was already
+	 * disarmed. When the thread is already interrupted, such as by cancellation,
+	 * the Deadline lapses without raising an interrupt of its own.
+	 */
+	private void interrupt() {
+		if (alarm.compareAndSet(ARMED, FIRING)) {
+			if (thread.isInterrupted()) {
+				alarm.set(LAPSED);
+				return;
+			}
+			thread.interrupt();
+			alarm.set(EXPIRED);
+		}
+	}
+
+	/**
+	 * Provides whether this Deadline has expired.
+	 *
+	 * @return True once expired, whether or not it interrupted its thread
+	 */
+	boolean isExpired() {
+		final int state = alarm.get();
+		return state == EXPIRED || state == LAPSED;
+	}
+
+	/**
+	 * Disarms this Deadline. When it had already expired and interrupted its
+	 * thread, that interrupt is cleared, so that the thread may be reused. An
+	 * interrupt this Deadline did not raise is left pending.
+	 *
+	 * @apiNote An interrupt raised by another party after this Deadline
+	 *          interrupted its thread can not be told apart from its own, so
+	 *          callers which may be cancelled should re-assert their
+	 *          cancellation once closed
+	 */
+	@Override
+	public void close() {
+		_current.remove();
+		if (alarm.compareAndSet(ARMED, DISARMED)) {
+			interruption.cancel(false);
+			return;
+		}
+		while (alarm.get() == FIRING) {
+			Thread.onSpinWait();
+		}
+		if (alarm.get() == EXPIRED) {
+			Thread.interrupted();
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.github.jelatinone.scholarfind.meta;
+
+/**
+ *
+ * <h1>DeadlineExceededException</h1>
+ *
+ * <p>
+ * Thrown in place of whatever failure an operand raised once its
+ * {@link Deadline} expired, or raised by a {@link Task} whose own deadline
+ * expired before it completed.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+	/**
+	 * Creates a new DeadlineExceededException
+	 *
+	 * @param message Description of the deadline exceeded
+	 * @param cause   Failure raised once the deadline expired, which may be null
+	 */
+	public DeadlineExceededException(final String message, final Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,143 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+/**
+ *
+ * <h1>Histogram</h1>
+ *
+ * <p>
+ * Records latencies, in nanoseconds, into logarithmic buckets which are each
+ * split into {@link #SUB_BUCKETS} linear sub-buckets, so that any
+ * {@link #percentile(double) percentile} is reported within an eighth of its
+ * true value. Recording never locks, and may be performed by any number of
+ * threads at once.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class Histogram {
+	static int SUB_BUCKET_BITS = 3;
+	static int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	static int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	LongAdder count = new LongAdder();
+	AtomicLong maximum = new AtomicLong();
+
+	/**
+	 * Records a single latency.
+	 *
+	 * @param nanoseconds Latency to record, where negative latencies are
+	 *                    recorded as zero
+	 */
+	public void record(final long nanoseconds) {
+		final long value = Math.max(nanoseconds, 0);
+		counts.incrementAndGet(index(value));
+		count.increment();
+		maximum.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * Provides the number of latencies recorded.
+	 *
+	 * @return Number of recorded latencies
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Provides the largest latency recorded.
+	 *
+	 * @return Maximum latency, or zero if none were recorded
+	 */
+	public Duration getMaximum() {
+		return Duration.ofNanos(maximum.get());
+	}
+
+	/**
+	 * Provides the latency below which a given fraction of recorded latencies
+	 * fall.
+	 *
+	 * @param fraction Fraction, between 0 and 1, of latencies to fall below
+	 * @return Upper bound of the bucket containing the percentile, or zero if none
+	 *         were recorded
+	 */
+	public Duration percentile(final double fraction) {
+		if (fraction < 0.0 || fraction > 1.0) {
+			throw new IllegalArgumentException(String.format("Invalid percentile : %f", fraction));
+		}
+		final long total = getCount();
+		if (total == 0) {
+			return Duration.ZERO;
+		}
+		final long target = Math.max(1, (long) Math.ceil(fraction * total));
+		long cumulative = 0;
+		for (int index = 0; index < BUCKETS; index++) {
+			cumulative += counts.get(index);
+			if (cumulative >= target) {
+				return Duration.ofNanos(Math.min(upperBound(index), maximum.get()));
+			}
+		}
+		return getMaximum();
+	}
+
+	/**
+	 * Provides the bucket a given latency is recorded in.
+	 *
+	 * @param value Non-negative latency
+	 * @return Index of its bucket
+	 */
+	static int index(final long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+		final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Provides the largest latency recorded in a given bucket.
+	 *
+	 * @param index Index of the bucket
+	 * @return Inclusive upper bound of the bucket
+	 */
+	static long upperBound(final int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		final int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		final long subBucket = index % SUB_BUCKETS;
+		final long width = 1L << (exponent - SUB_BUCKET_BITS);
+		final long lowerBound = (1L << exponent) + subBucket * width;
+		return lowerBound + width - 1;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("p50 %s p95 %s p99 %s max %s",
+				milliseconds(percentile(0.50)),
+				milliseconds(percentile(0.95)),
+				milliseconds(percentile(0.99)),
+				milliseconds(getMaximum()));
+	}
+
+	/**
+	 * Formats a latency in milliseconds.
+	 *
+	 * @param latency Latency to format
+	 * @return Latency in milliseconds, to one decimal place
+	 */
+	static String milliseconds(final Duration latency) {
+		return String.format("%.1fms", latency.toNanos() / 1_000_000.0);
+	}
+}
@@ -0,0 +1,226 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+/**
+ *
+ * <h1>Limiter</h1>
+ *
+ * <p>
+ * Bounds the number of operations of a {@link Task} in flight at once. A fixed
+ * Limiter never changes its limit, while an adaptive Limiter follows additive
+ * increase, multiplicative decrease: every {@link #release(Duration, boolean)
+ * healthy} operation grows the limit by a fraction of one slot, so that the
+ * limit grows by one slot each time a full window completes, and every
+ * overloaded operation shrinks it by a fixed factor. An operation is overloaded
+ * when it failed with an overload failure, such as a timeout or an HTTP 429, or
+ * when its latency exceeds a multiple of the best recent latency observed.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class Limiter {
+	public static Integer DEFAULT_MAXIMUM_LIMIT = 64;
+	public static Double DEFAULT_BACKOFF = 0.5;
+	public static Double DEFAULT_LATENCY_TOLERANCE = 4.0;
+
+	static long BACKOFF_COOLDOWN_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(250);
+	static double BASELINE_DRIFT = 1.01;
+
+	boolean adaptive;
+	int minimum;
+	int maximum;
+	double backoff;
+	double tolerance;
+
+	ReentrantLock lock = new ReentrantLock();
+	Condition released = lock.newCondition();
+
+	@NonFinal
+	double limit;
+	@NonFinal
+	int inFlight = 0;
+	@NonFinal
+	long baseline = Long.MAX_VALUE;
+	@NonFinal
+	long backedOff;
+
+	/**
+	 * Limiter Constructor.
+	 *
+	 * @param adaptive  Whether the limit adapts to the health of operations
+	 * @param initial   Limit to begin with
+	 * @param minimum   Lowest limit an adaptive Limiter may back off to
+	 * @param maximum   Highest limit an adaptive Limiter may grow to
+	 * @param backoff   Factor, between 0 and 1, the limit shrinks by on overload
+	 * @param tolerance Multiple of the best observed latency above which an
+	 *                  operation counts as overloaded
+	 */
+	private Limiter(
+			final boolean adaptive,
+			final int initial,
+			final int minimum,
+			final int maximum,
+			final double backoff,
+			final double tolerance) {
+		if (minimum < 1 || maximum < minimum || initial < minimum || initial > maximum) {
+			throw new IllegalArgumentException(String.format("Invalid limits : %d <= %d <= %d",
+					minimum, initial, maximum));
+		}
+		if (backoff <= 0.0 || backoff >= 1.0) {
+			throw new IllegalArgumentException(String.format("Invalid backoff : %f", backoff));
+		}
+		this.adaptive = adaptive;
+		this.minimum = minimum;
+		this.maximum = maximum;
+		this.backoff = backoff;
+		this.tolerance = tolerance;
+		limit = initial;
+		backedOff = System.nanoTime() - BACKOFF_COOLDOWN_NANOSECONDS;
+	}
+
+	/**
+	 * Creates a Limiter whose limit never changes
+	 *
+	 * @param limit Number of operations which may be in flight at once
+	 * @return Fixed Limiter
+	 */
+	public static Limiter fixed(final int limit) {
+		return new Limiter(false, limit, limit, limit, DEFAULT_BACKOFF, DEFAULT_LATENCY_TOLERANCE);
+	}
+
+	/**
+	 * Creates a Limiter whose limit adapts between one and a maximum, with the
+	 * default backoff and latency tolerance
+	 *
+	 * @param initial Limit to begin with
+	 * @param maximum Highest limit which may be grown to
+	 * @return Adaptive Limiter
+	 */
+	public static Limiter adaptive(final int initial, final int maximum) {
+		return new Limiter(true, initial, 1, maximum, DEFAULT_BACKOFF, DEFAULT_LATENCY_TOLERANCE);
+	}
+
+	/**
+	 * Acquires a slot, waiting until the number of operations in flight is below
+	 * the current limit.
+	 *
+	 * @throws InterruptedException When interrupted while waiting
+	 */
+	public void acquire() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (inFlight >= (int) limit) {
+				released.await();
+			}
+			inFlight++;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases a slot, and adapts the limit to the outcome of the operation
+	 * which held it. The best latency observed drifts slowly upward, so that a
+	 * single unusually fast operation does not hold the limit down forever.
+	 *
+	 * @param latency    Time the operation took
+	 * @param overloaded Whether the operation failed with an overload failure
+	 */
+	public void release(final @NonNull Duration latency, final boolean overloaded) {
+		lock.lock();
+		try {
+			inFlight--;
+			if (adaptive) {
+				final long nanoseconds = Math.max(latency.toNanos(), 1);
+				if (!overloaded) {
+					baseline = baseline == Long.MAX_VALUE
+							? nanoseconds
+							: Math.min(nanoseconds, (long) (baseline * BASELINE_DRIFT));
+				}
+				if (overloaded || nanoseconds > baseline * tolerance) {
+					decrease();
+				} else {
+					limit = Math.min(maximum, limit + 1.0 / Math.max(1.0, Math.floor(limit)));
+				}
+			}
+			released.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases a slot without adapting the limit, for an operation whose outcome
+	 * says nothing of load, such as one which never ran or failed on invalid
+	 * input.
+	 */
+	public void release() {
+		lock.lock();
+		try {
+			inFlight--;
+			released.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Shrinks the limit by the backoff factor, at most once per cooldown so that
+	 * a burst of failures of operations already in flight is counted once.
+	 */
+	private void decrease() {
+		final long now = System.nanoTime();
+		if (now - backedOff < BACKOFF_COOLDOWN_NANOSECONDS) {
+			return;
+		}
+		backedOff = now;
+		limit = Math.max(minimum, Math.floor(limit * backoff));
+	}
+
+	/**
+	 * Provides the current limit.
+	 *
+	 * @return Number of operations which may currently be in flight at once
+	 */
+	public int getLimit() {
+		lock.lock();
+		try {
+			return (int) limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Provides the number of operations in flight.
+	 *
+	 * @return Number of slots held
+	 */
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Provides whether the limit adapts to the health of operations.
+	 *
+	 * @return True when adaptive
+	 */
+	public boolean isAdaptive() {
+		return adaptive;
+	}
+}
@@ -0,0 +1,246 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+
+/**
+ *
+ * <h1>Metrics</h1>
+ *
+ * <p>
+ * Counts the operands a {@link Task} has processed, succeeded, retried and
+ * failed, and records {@link Histogram latencies} of its three stages: pulling
+ * an operand from its {@link Source collection}, {@link Task#operate(Object)
+ * operating} on it, and producing its {@link Task#result(Object, Object)
+ * result}. Every counter may be updated by any number of operand threads
+ * without locking.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class Metrics {
+
+	LongAdder collected = new LongAdder();
+	LongAdder processed = new LongAdder();
+	LongAdder succeeded = new LongAdder();
+	LongAdder retried = new LongAdder();
+	LongAdder failed = new LongAdder();
+
+	Histogram collect = new Histogram();
+	Histogram operate = new Histogram();
+	Histogram result = new Histogram();
+
+	AtomicLong started = new AtomicLong();
+	AtomicLong stopped = new AtomicLong();
+	AtomicBoolean exhausted = new AtomicBoolean();
+
+	/**
+	 * Marks the time operation started, if not already started.
+	 */
+	void withStart() {
+		started.compareAndSet(0, System.nanoTime());
+		stopped.set(0);
+		exhausted.set(false);
+	}
+
+	/**
+	 * Marks the time operation stopped, so that throughput no longer decays.
+	 */
+	void withStop() {
+		stopped.compareAndSet(0, System.nanoTime());
+	}
+
+	/**
+	 * Records the latency of pulling an operand from a Source.
+	 *
+	 * @param nanoseconds Latency to record
+	 */
+	void withCollect(final long nanoseconds) {
+		collect.record(nanoseconds);
+	}
+
+	/**
+	 * Records an operand collected for operation, which was not already
+	 * completed.
+	 */
+	void withOperand() {
+		collected.increment();
+	}
+
+	/**
+	 * Marks the Source of operands as exhausted, so that no more operands will be
+	 * {@link #withOperand() collected}.
+	 */
+	void withExhaustion() {
+		exhausted.set(true);
+	}
+
+	/**
+	 * Records the latency of operating on an operand.
+	 *
+	 * @param nanoseconds Latency to record
+	 */
+	void withOperate(final long nanoseconds) {
+		operate.record(nanoseconds);
+	}
+
+	/**
+	 * Records the latency of producing the result of an operand.
+	 *
+	 * @param nanoseconds Latency to record
+	 */
+	void withResult(final long nanoseconds) {
+		result.record(nanoseconds);
+	}
+
+	/**
+	 * Records an operand which has completed successfully.
+	 */
+	void withSuccess() {
+		succeeded.increment();
+		processed.increment();
+	}
+
+	/**
+	 * Records an operand which has been scheduled for another attempt.
+	 */
+	void withRetry() {
+		retried.increment();
+	}
+
+	/**
+	 * Records an operand which has been given up on.
+	 */
+	void withFailure() {
+		failed.increment();
+		processed.increment();
+	}
+
+	/**
+	 * Provides the number of operands collected for operation so far.
+	 *
+	 * @return Number of collected operands
+	 */
+	public long getCollected() {
+		return collected.sum();
+	}
+
+	/**
+	 * Provides whether every operand has been collected, and so whether the
+	 * {@link #getCollected() collected} count is the final total.
+	 *
+	 * @return True once the Source of operands is exhausted
+	 */
+	public boolean isExhausted() {
+		return exhausted.get();
+	}
+
+	/**
+	 * Provides the estimated time until every collected operand is processed, at
+	 * the current {@link #getThroughput() throughput}.
+	 *
+	 * @return Estimated time remaining, or null when no operand has been
+	 *         processed yet
+	 */
+	public Duration getEstimate() {
+		final double throughput = getThroughput();
+		if (throughput <= 0.0) {
+			return null;
+		}
+		final long remaining = Math.max(getCollected() - getProcessed(), 0);
+		return Duration.ofMillis(Math.round(remaining / throughput * 1_000));
+	}
+
+	/**
+	 * Provides the number of operands which have either succeeded or failed.
+	 *
+	 * @return Number of processed operands
+	 */
+	public long getProcessed() {
+		return processed.sum();
+	}
+
+	/**
+	 * Provides the number of operands which have succeeded.
+	 *
+	 * @return Number of succeeded operands
+	 */
+	public long getSucceeded() {
+		return succeeded.sum();
+	}
+
+	/**
+	 * Provides the number of retries scheduled across every operand.
+	 *
+	 * @return Number of retries
+	 */
+	public long getRetried() {
+		return retried.sum();
+	}
+
+	/**
+	 * Provides the number of operands which have been given up on.
+	 *
+	 * @return Number of failed operands
+	 */
+	public long getFailed() {
+		return failed.sum();
+	}
+
+	/**
+	 * Provides the number of operands processed per second since operation
+	 * started.
+	 *
+	 * @return Operands per second, or zero if operation has not started
+	 */
+	public double getThroughput() {
+		final long start = started.get();
+		if (start == 0) {
+			return 0.0;
+		}
+		final long stop = stopped.get();
+		final long elapsed = (stop != 0 ? stop : System.nanoTime()) - start;
+		return elapsed > 0 ? getProcessed() / (elapsed / 1_000_000_000.0) : 0.0;
+	}
+
+	/**
+	 * Provides the latencies of pulling each operand from a Source.
+	 *
+	 * @return Collection latencies
+	 */
+	public Histogram getCollectLatency() {
+		return collect;
+	}
+
+	/**
+	 * Provides the latencies of operating on each operand.
+	 *
+	 * @return Operation latencies
+	 */
+	public Histogram getOperateLatency() {
+		return operate;
+	}
+
+	/**
+	 * Provides the latencies of producing the result of each operand.
+	 *
+	 * @return Result latencies
+	 */
+	public Histogram getResultLatency() {
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"processed %d (succeeded %d, retried %d, failed %d) %.1f/s | collect %s | operate %s | result %s",
+				getProcessed(), getSucceeded(), getRetried(), getFailed(), getThroughput(),
+				collect, operate, result);
+	}
+}
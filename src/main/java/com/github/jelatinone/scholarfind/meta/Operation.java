@@ -0,0 +1,145 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+/**
+ *
+ * <h1>Operation</h1>
+ *
+ * <p>
+ * Describes a single operand in flight within a {@link Task}, which tracks its
+ * own {@link State} and attempts independently of any other operand of the
+ * same Task.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+final class Operation<Consumes> {
+
+	Consumes operand;
+
+	AtomicReference<State> state;
+	AtomicInteger attempt;
+	Instant created;
+
+	@NonFinal
+	volatile Throwable failure = null;
+
+	@NonFinal
+	volatile Instant attempted;
+
+	/**
+	 * Creates a new Operation on a collected operand
+	 *
+	 * @param operand Collected operand to operate on
+	 */
+	Operation(final @NonNull Consumes operand) {
+		this.operand = operand;
+
+		state = new AtomicReference<>(State.COLLECTING);
+		attempt = new AtomicInteger();
+		created = Instant.now();
+		attempted = created;
+	}
+
+	/**
+	 * Modifies the current state of this `Operation`, without locking.
+	 *
+	 * @param state New state of operation
+	 * @throws IllegalStateException When the current state does not
+	 *                               {@link State#precedes(State) precede} the
+	 *                               new state
+	 */
+	void withState(final @NonNull State state) throws IllegalStateException {
+		State current;
+		do {
+			current = this.state.get();
+			if (!current.precedes(state)) {
+				throw new IllegalStateException(String.format("Illegal Operation State Modification %s to %s",
+						current.name(), state.name()));
+			}
+		} while (!this.state.compareAndSet(current, state));
+	}
+
+	/**
+	 * Records a failed attempt of this `Operation`.
+	 *
+	 * @return Number of attempts that had failed before this one
+	 */
+	int withAttempt() {
+		attempted = Instant.now();
+		return attempt.getAndIncrement();
+	}
+
+	/**
+	 * Records the failure of the latest attempt of this `Operation`.
+	 *
+	 * @param failure Failure thrown during the attempt, or null when the attempt
+	 *                produced an invalid result
+	 */
+	void withFailure(final Throwable failure) {
+		this.failure = failure;
+	}
+
+	/**
+	 * Provides the failure of the latest attempt of this `Operation`.
+	 *
+	 * @return Failure of the latest attempt, which may be null
+	 */
+	Throwable getFailure() {
+		return failure;
+	}
+
+	/**
+	 * Provides the number of failed attempts of this `Operation`.
+	 *
+	 * @return Number of failed attempts
+	 */
+	int getAttempts() {
+		return attempt.get();
+	}
+
+	/**
+	 * Provides when this `Operation` was first attempted.
+	 *
+	 * @return Time this operation was created
+	 */
+	Instant getCreated() {
+		return created;
+	}
+
+	/**
+	 * Provides when the latest attempt of this `Operation` failed.
+	 *
+	 * @return Time of the latest failed attempt
+	 */
+	Instant getAttempted() {
+		return attempted;
+	}
+
+	/**
+	 * Provides the operand of this `Operation`.
+	 *
+	 * @return Operand being operated on
+	 */
+	Consumes getOperand() {
+		return operand;
+	}
+
+	/**
+	 * Provides the state of this `Operation`.
+	 *
+	 * @return Current state of this operation
+	 */
+	State getState() {
+		return state.get();
+	}
+}
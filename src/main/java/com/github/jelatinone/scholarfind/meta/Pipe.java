@@ -0,0 +1,155 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
+
+/**
+ *
+ * <h1>Pipe</h1>
+ *
+ * <p>
+ * A bounded, in-memory {@link Source} which carries the results of upstream
+ * {@link Task Tasks} to a downstream Task as they are produced. Any number of
+ * upstream Tasks may write into the same Pipe, which is sealed once every one
+ * of them has finished writing.
+ * </p>
+ *
+ * <p>
+ * An upstream Task blocks while the Pipe is full, which keeps a fast producer
+ * from running arbitrarily far ahead of a slow consumer.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class Pipe<Element> implements Source<Element> {
+	public static Integer DEFAULT_PIPE_CAPACITY = 256;
+
+	static long POLL_INTERVAL_MILLISECONDS = 50;
+
+	BlockingQueue<Element> queue;
+	AtomicInteger writers = new AtomicInteger();
+
+	@NonFinal
+	volatile boolean sealed = false;
+	@NonFinal
+	volatile boolean closed = false;
+	@NonFinal
+	Element next = null;
+
+	/**
+	 * Creates a new Pipe
+	 *
+	 * @param capacity Maximum number of elements held before an upstream blocks
+	 */
+	public Pipe(final int capacity) {
+		queue = new ArrayBlockingQueue<>(capacity);
+	}
+
+	/**
+	 * Pushes an element into this Pipe, blocking while the Pipe is full.
+	 *
+	 * @param element Element to push
+	 * @throws InterruptedException When interrupted while awaiting space
+	 */
+	void push(final @NonNull Element element) throws InterruptedException {
+		while (!closed) {
+			if (queue.offer(element, POLL_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Registers an upstream which will push elements into this Pipe, and which
+	 * must {@link #seal() seal} it once finished.
+	 */
+	void withWriter() {
+		writers.incrementAndGet();
+	}
+
+	/**
+	 * Marks that an upstream will push no further elements into this Pipe. Once
+	 * every upstream has done so, no further elements will be pushed at all.
+	 */
+	void seal() {
+		if (writers.decrementAndGet() <= 0) {
+			sealed = true;
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next != null) {
+			return true;
+		}
+		try {
+			while (!closed) {
+				final boolean drained = sealed;
+				next = queue.poll(POLL_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+				if (next != null) {
+					return true;
+				}
+				if (drained) {
+					return false;
+				}
+			}
+			return false;
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Interrupted while awaiting piped element");
+		}
+	}
+
+	@Override
+	public boolean available(final @NonNull Duration timeout) {
+		if (next != null) {
+			return true;
+		}
+		final long deadline = System.nanoTime() + timeout.toNanos();
+		try {
+			while (!closed) {
+				final boolean drained = sealed;
+				final long remaining = Math.min(deadline - System.nanoTime(),
+						TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_MILLISECONDS));
+				next = queue.poll(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+				if (next != null) {
+					return true;
+				}
+				if (drained || remaining <= 0) {
+					return false;
+				}
+			}
+			return false;
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Interrupted while awaiting piped element");
+		}
+	}
+
+	@Override
+	public Element next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		final Element element = next;
+		next = null;
+		return element;
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		queue.clear();
+	}
+}
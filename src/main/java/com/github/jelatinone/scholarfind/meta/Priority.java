@@ -0,0 +1,43 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import lombok.NonNull;
+
+/**
+ *
+ * <h1>Priority</h1>
+ *
+ * <p>
+ * Ranks the operands of a {@link Task}, so that among the operands pulled ahead
+ * of operation the one with the lowest rank is operated on first. Operands of
+ * equal rank are operated on in the order they were collected.
+ * </p>
+ *
+ * <p>
+ * Operands are ranked once, as they are pulled from a {@link Source}, and only
+ * ever from the single thread dispatching operands of the Task. Each ranked
+ * operand is later released once it completes, exhausts its retries or is
+ * abandoned, from whichever thread settled it, so that a Priority which keeps
+ * state across operands must guard that state against both.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+@FunctionalInterface
+public interface Priority<Element> {
+
+	/**
+	 * Ranks an operand pulled for operation.
+	 *
+	 * @param operand Operand to rank
+	 * @return Rank of the operand, where lower ranks are operated on first
+	 */
+	double rank(final @NonNull Element operand);
+
+	/**
+	 * Releases an operand ranked earlier, which will not be operated on again.
+	 *
+	 * @param operand Operand to release
+	 */
+	default void release(final @NonNull Element operand) {
+	}
+}
@@ -0,0 +1,105 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.NonNull;
+
+/**
+ *
+ * <h1>RetryPolicy</h1>
+ *
+ * <p>
+ * Describes how many times, and after how long, a failed operand of a
+ * {@link Task} is retried. Delays grow exponentially from an initial delay up
+ * to a maximum delay, and are shortened by a random jitter so that operands
+ * failing together do not retry together.
+ * </p>
+ *
+ * @param maximumRetries Number of retries before an operand is given up on
+ * @param initialDelay   Delay before the first retry
+ * @param multiplier     Factor each subsequent delay grows by
+ * @param maximumDelay   Upper bound of any single delay
+ * @param jitter         Fraction, between 0 and 1, of each delay which is
+ *                       randomized
+ *
+ * @author Cody Washington
+ */
+public record RetryPolicy(
+		int maximumRetries,
+		@NonNull Duration initialDelay,
+		double multiplier,
+		@NonNull Duration maximumDelay,
+		double jitter) {
+	public static Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(500);
+	public static Duration DEFAULT_MAXIMUM_DELAY = Duration.ofSeconds(30);
+	public static Double DEFAULT_MULTIPLIER = 2.0;
+	public static Double DEFAULT_JITTER = 0.5;
+
+	public RetryPolicy {
+		if (maximumRetries < 0) {
+			throw new IllegalArgumentException(String.format("Invalid maximum retries : %d", maximumRetries));
+		}
+		if (initialDelay.isNegative()) {
+			throw new IllegalArgumentException(String.format("Invalid initial delay : %s", initialDelay));
+		}
+		if (maximumDelay.compareTo(initialDelay) < 0) {
+			throw new IllegalArgumentException(String.format("Invalid maximum delay : %s is less than initial delay %s",
+					maximumDelay, initialDelay));
+		}
+		if (multiplier < 1.0) {
+			throw new IllegalArgumentException(String.format("Invalid multiplier : %f", multiplier));
+		}
+		if (jitter < 0.0 || jitter > 1.0) {
+			throw new IllegalArgumentException(String.format("Invalid jitter : %f", jitter));
+		}
+	}
+
+	/**
+	 * Creates a RetryPolicy with the default delays
+	 *
+	 * @param maximumRetries Number of retries before an operand is given up on
+	 * @return RetryPolicy with default delays
+	 */
+	public static RetryPolicy of(final int maximumRetries) {
+		return of(maximumRetries, DEFAULT_INITIAL_DELAY, DEFAULT_MAXIMUM_DELAY);
+	}
+
+	/**
+	 * Creates a RetryPolicy with the default multiplier and jitter
+	 *
+	 * @param maximumRetries Number of retries before an operand is given up on
+	 * @param initialDelay   Delay before the first retry
+	 * @param maximumDelay   Upper bound of any single delay
+	 * @return RetryPolicy with default multiplier and jitter
+	 */
+	public static RetryPolicy of(
+			final int maximumRetries,
+			final @NonNull Duration initialDelay,
+			final @NonNull Duration maximumDelay) {
+		return new RetryPolicy(maximumRetries, initialDelay, DEFAULT_MULTIPLIER, maximumDelay, DEFAULT_JITTER);
+	}
+
+	/**
+	 * Provides whether an operand has used every retry available to it.
+	 *
+	 * @param attempt Number of failed attempts before the latest one
+	 * @return True when the operand should be given up on
+	 */
+	public boolean exhausted(final int attempt) {
+		return attempt >= maximumRetries;
+	}
+
+	/**
+	 * Provides the delay before retrying an operand.
+	 *
+	 * @param attempt Number of failed attempts before the latest one
+	 * @return Delay to wait before the next attempt
+	 */
+	public Duration delay(final int attempt) {
+		final double exponential = initialDelay.toMillis() * Math.pow(multiplier, attempt);
+		final double capped = Math.min(exponential, maximumDelay.toMillis());
+		final double jittered = capped * (1.0 - jitter * ThreadLocalRandom.current().nextDouble());
+		return Duration.ofMillis(Math.round(jittered));
+	}
+}
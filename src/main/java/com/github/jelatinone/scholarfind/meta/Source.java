@@ -0,0 +1,273 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import lombok.NonNull;
+
+/**
+ *
+ * <h1>Source</h1>
+ *
+ * <p>
+ * A lazily pulled supply of consumable data for a {@link Task}, which may hold
+ * an underlying resource (such as an open file) until it is closed.
+ * </p>
+ *
+ * <p>
+ * Elements are only produced as a Task pulls them with {@link #next()}, which
+ * allows a Task to begin operating before its collection has finished.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+public interface Source<Element> extends Iterator<Element>, AutoCloseable {
+
+	/**
+	 * Releases any resource held by this Source
+	 *
+	 * @throws IOException When a critical IO failure occurs while releasing
+	 */
+	@Override
+	void close() throws IOException;
+
+	/**
+	 * Provides whether an element is available to pull within a given time.
+	 * Unlike {@link #hasNext()}, a false result does not mean this Source is
+	 * exhausted, only that no element became available in time.
+	 *
+	 * @param timeout Maximum time to wait for an element
+	 * @return True when {@link #next()} may be called without waiting
+	 *
+	 * @implSpec The default implementation waits as long as {@link #hasNext()}
+	 *           does, which suits Sources whose elements are already collected
+	 */
+	default boolean available(final @NonNull Duration timeout) {
+		return hasNext();
+	}
+
+	/**
+	 * Lazily maps each element of this Source to any number of elements.
+	 *
+	 * @param <Mapped> Type of element mapped to
+	 * @param mapper   Function to map each element with
+	 * @return Source of mapped elements, which closes this Source when closed,
+	 *         and waits no longer than asked for when pulled from
+	 *         {@link #available(Duration) within a given time}
+	 */
+	default <Mapped> Source<Mapped> flatMap(final @NonNull Function<Element, Iterator<Mapped>> mapper) {
+		final Source<Element> parent = this;
+		return new Source<>() {
+			Iterator<Mapped> current = Collections.emptyIterator();
+
+			@Override
+			public boolean hasNext() {
+				while (!current.hasNext()) {
+					if (!parent.hasNext()) {
+						return false;
+					}
+					current = mapper.apply(parent.next());
+				}
+				return true;
+			}
+
+			@Override
+			public boolean available(final @NonNull Duration timeout) {
+				final long deadline = System.nanoTime() + timeout.toNanos();
+				while (!current.hasNext()) {
+					if (!parent.available(Duration.ofNanos(Math.max(deadline - System.nanoTime(), 0)))) {
+						return false;
+					}
+					current = mapper.apply(parent.next());
+				}
+				return true;
+			}
+
+			@Override
+			public Mapped next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return current.next();
+			}
+
+			@Override
+			public void close() throws IOException {
+				parent.close();
+			}
+		};
+	}
+
+	/**
+	 * Pulls elements of this Source ahead of time on a pool of threads, so that
+	 * the work of producing each element, such as parsing it, is done on that
+	 * pool rather than on the thread pulling from the returned Source. No thread
+	 * of the pool is held while enough elements are buffered.
+	 *
+	 * @param pool     Pool of threads to pull elements on
+	 * @param capacity Greatest number of elements pulled ahead and not yet taken,
+	 *                 which are pulled again once half of them were taken
+	 * @return Source of the same elements, in the same order, which closes this
+	 *         Source when closed, and rethrows any failure of pulling an element
+	 *         once every element before it has been pulled
+	 * @throws IllegalArgumentException When the capacity given is not positive
+	 */
+	default Source<Element> prefetch(final @NonNull ExecutorService pool, final int capacity)
+			throws IllegalArgumentException {
+		if (capacity < 1) {
+			throw new IllegalArgumentException(String.format("Invalid capacity : %d", capacity));
+		}
+		final Source<Element> parent = this;
+		final Object end = new Object();
+		return new Source<>() {
+			final BlockingQueue<Object> buffered = new LinkedBlockingQueue<>();
+			final AtomicInteger held = new AtomicInteger();
+			final AtomicBoolean refilling = new AtomicBoolean();
+			final ReentrantLock pulling = new ReentrantLock();
+			volatile boolean ended;
+			volatile boolean closed;
+			volatile RuntimeException failure;
+			Future<?> refill;
+			Object head;
+
+			private void refill() {
+				if (ended || held.get() > capacity / 2 || !refilling.compareAndSet(false, true)) {
+					return;
+				}
+				refill = pool.submit(() -> {
+					pulling.lock();
+					try {
+						// Only this job adds elements, so none is pulled beyond the capacity
+						while (held.get() < capacity && !closed) {
+							if (!parent.hasNext()) {
+								ended = true;
+								buffered.add(end);
+								return;
+							}
+							buffered.add(parent.next());
+							held.incrementAndGet();
+						}
+					} catch (final RuntimeException exception) {
+						failure = exception;
+						ended = true;
+						buffered.add(end);
+					} finally {
+						refilling.set(false);
+						pulling.unlock();
+					}
+					if (!closed) {
+						refill();
+					}
+				});
+			}
+
+			private boolean await(final long timeout) {
+				try {
+					if (head == null) {
+						refill();
+						head = timeout < 0 ? buffered.take() : buffered.poll(timeout, TimeUnit.NANOSECONDS);
+					}
+				} catch (final InterruptedException exception) {
+					Thread.currentThread().interrupt();
+					throw new CancellationException("Prefetch was interrupted");
+				}
+				if (head == end && failure != null) {
+					throw failure;
+				}
+				return head != null && head != end;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return await(-1);
+			}
+
+			@Override
+			public boolean available(final @NonNull Duration timeout) {
+				return await(timeout.toNanos());
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public Element next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				final Element element = (Element) head;
+				head = null;
+				held.decrementAndGet();
+				refill();
+				return element;
+			}
+
+			@Override
+			public void close() throws IOException {
+				closed = true;
+				if (refill != null) {
+					refill.cancel(false);
+				}
+				pulling.lock();
+				try {
+					parent.close();
+				} finally {
+					pulling.unlock();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Adapts an already collected group of elements into a Source
+	 *
+	 * @param <Element> Type of element supplied
+	 * @param elements  Elements to supply
+	 * @return Source of the supplied elements, which holds no resource
+	 */
+	static <Element> Source<Element> of(final @NonNull Iterable<Element> elements) {
+		return of(elements.iterator(), () -> {
+		});
+	}
+
+	/**
+	 * Adapts an iterator, backed by a given resource, into a Source
+	 *
+	 * @param <Element> Type of element supplied
+	 * @param elements  Iterator of elements to supply
+	 * @param resource  Resource to release once the Source is closed
+	 * @return Source of the supplied elements
+	 */
+	static <Element> Source<Element> of(
+			final @NonNull Iterator<Element> elements,
+			final @NonNull Closeable resource) {
+		return new Source<>() {
+			@Override
+			public boolean hasNext() {
+				return elements.hasNext();
+			}
+
+			@Override
+			public Element next() {
+				return elements.next();
+			}
+
+			@Override
+			public void close() throws IOException {
+				resource.close();
+			}
+		};
+	}
+}
@@ -1,13 +1,25 @@
 package com.github.jelatinone.scholarfind.meta;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.NonNull;
+
 /**
- * 
+ *
  * <h1>State</h1>
- * 
+ *
  * <p>
  * Describes the State of a given {@link Task} at a given point during operation
  * <p>
- * 
+ *
+ * <p>
+ * Each State may only {@link #precedes(State) transition} to a fixed set of
+ * following States; {@link #COMPLETED} and {@link #FAILED} are terminal.
+ * </p>
+ *
  * @author Cody Washington
  */
 public enum State {
@@ -28,5 +40,39 @@ public enum State {
 
 	COMPLETED,
 
-	FAILED
-}
\ No newline at end of file
+	FAILED;
+
+	static Map<State, Set<State>> _transitions = new EnumMap<>(State.class);
+
+	static {
+		_transitions.put(CREATED, EnumSet.of(AWAITING_DEPENDENCIES, FAILED));
+		_transitions.put(AWAITING_DEPENDENCIES, EnumSet.of(COLLECTING, RESTARTING, FAILED));
+		_transitions.put(COLLECTING, EnumSet.of(OPERATING, RESTARTING, COMPLETED, FAILED));
+		_transitions.put(OPERATING, EnumSet.of(PRODUCING_RESULT, RETRYING, RESTARTING, COMPLETED, FAILED));
+		_transitions.put(PRODUCING_RESULT, EnumSet.of(RETRYING, COMPLETED, FAILED));
+		_transitions.put(RETRYING, EnumSet.of(OPERATING, RESTARTING, FAILED));
+		_transitions.put(RESTARTING, EnumSet.of(AWAITING_DEPENDENCIES, FAILED));
+		_transitions.put(COMPLETED, EnumSet.noneOf(State.class));
+		_transitions.put(FAILED, EnumSet.noneOf(State.class));
+	}
+
+	/**
+	 * Provides whether this State may transition directly to another.
+	 *
+	 * @param next State to transition to
+	 * @return True when the transition is legal
+	 */
+	public boolean precedes(final @NonNull State next) {
+		return _transitions.get(this).contains(next);
+	}
+
+	/**
+	 * Provides whether this State is terminal, and may not transition to any
+	 * other.
+	 *
+	 * @return True when {@link #COMPLETED} or {@link #FAILED}
+	 */
+	public boolean isTerminal() {
+		return _transitions.get(this).isEmpty();
+	}
+}
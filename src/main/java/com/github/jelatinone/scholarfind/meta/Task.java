@@ -1,19 +1,60 @@
 package com.github.jelatinone.scholarfind.meta;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.Option;
 import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jelatinone.scholarfind.json.Durability;
+import com.github.jelatinone.scholarfind.json.GroupCommit;
+import com.github.jelatinone.scholarfind.json.JsonFormat;
+import com.github.jelatinone.scholarfind.json.JsonHandler;
+import com.github.jelatinone.scholarfind.json.JsonReader;
+import com.github.jelatinone.scholarfind.json.JsonSerializer;
+import com.github.jelatinone.scholarfind.models.DeadLetterDocument;
 
 import lombok.AccessLevel;
 import lombok.NonNull;
@@ -43,38 +84,176 @@ import lombok.experimental.NonFinal;
 public abstract class Task<Consumes, Produces>
 		implements Runnable, AutoCloseable {
 	public static Integer MAXIMUM_OPERAND_RETRIES = 3;
+	public static Integer DEFAULT_OPERAND_CONCURRENCY = 1;
+	public static Integer DEFAULT_BATCH_SIZE = 1;
+	public static Duration DEFAULT_BATCH_LINGER = Duration.ZERO;
+	public static Integer DEFAULT_PREFETCH = 256;
 
 	public static Options DEFAULT_OPTION_CONFIGURATION = new Options();
-	public static String DEFAULT_DESTINATION_LOCATION = "output/%s-results_%s.json";
+	public static String DEFAULT_DESTINATION_LOCATION = "output/%s-results_%s%s";
+	public static String DEFAULT_INCREMENTAL_LOCATION = "output/%s.checkpoint";
 	public static Integer DEFAULT_NETWORK_TIMEOUT = 3500;
+	public static Integer DEFAULT_AGENT_TIMEOUT = 600000;
 
 	static Logger _logger = Logger.getLogger(Task.class.getName());
+	static ScheduledThreadPoolExecutor _timer = new ScheduledThreadPoolExecutor(1, (runnable) -> {
+		Thread thread = new Thread(runnable, "task-retry-timer");
+		thread.setDaemon(true);
+		return thread;
+	});
+	static long RETRY_POLL_MILLISECONDS = 50;
+
+	public static String DEFAULT_DEAD_LETTER_LOCATION = "%s.dead-letter.json";
+	public static String DEFAULT_REPLAYED_LOCATION = "%s.replayed";
+
+	static JsonSerializer<DeadLetterDocument> _deadLetterSerializer = (generator, document) -> {
+		generator.writeStartObject();
+
+		if (document.key() != null) {
+			generator.writeStringField("key", document.key());
+		} else {
+			generator.writeNullField("key");
+		}
+		generator.writeStringField("operand", document.operand());
+		generator.writeStringField("error", document.error());
+		generator.writeNumberField("attempts", document.attempts());
+		generator.writeStringField("firstAttempt", document.firstAttempt().toString());
+		generator.writeStringField("lastAttempt", document.lastAttempt().toString());
+
+		generator.writeEndObject();
+	};
 
 	String _name;
 
+	@NonFinal
+	String _identifier;
+	@NonFinal
+	Collection<String> _prerequisites = List.of();
+
 	Collection<Task<?, ?>> _dependencies;
 	Collection<Task<?, ?>> _dependents;
 	Collection<Runnable> _listeners;
+	Collection<Pipe<Object>> _pipes;
+	Map<State, Workload> _workloads;
 
 	AtomicReference<State> _state;
 	CompletableFuture<Void> _completable;
-	AtomicInteger _attempt;
+
+	BlockingQueue<Operation<Consumes>> _retries;
+	AtomicInteger _outstanding;
+	PriorityQueue<Ranked<Consumes>> _window;
+	Metrics _metrics;
+
+	ReentrantLock _running;
+	AtomicReference<Thread> _runner;
+
+	@NonFinal
+	ThreadFactory _operandThreads = null;
+
+	@NonFinal
+	RetryPolicy _retryPolicy = RetryPolicy.of(MAXIMUM_OPERAND_RETRIES);
+
+	@NonFinal
+	Integer _concurrency = DEFAULT_OPERAND_CONCURRENCY;
+
+	@NonFinal
+	Integer _maximumConcurrency = DEFAULT_OPERAND_CONCURRENCY;
+
+	@NonFinal
+	Limiter _limiter = Limiter.fixed(DEFAULT_OPERAND_CONCURRENCY);
+
+	@NonFinal
+	Duration _operandTimeout = null;
+
+	@NonFinal
+	Duration _deadline = null;
+
+	@NonFinal
+	volatile long _expiry = Long.MAX_VALUE;
+
+	@NonFinal
+	Integer _batchSize = DEFAULT_BATCH_SIZE;
+
+	@NonFinal
+	Duration _batchLinger = DEFAULT_BATCH_LINGER;
 
 	@NonFinal
-	Consumes operand = null;
+	volatile boolean _batching = true;
 
 	@NonFinal
-	Produces result = null;
+	Priority<Consumes> _priority = null;
 
 	@NonFinal
-	String message = null;
+	Integer _prefetch = DEFAULT_PREFETCH;
+
+	@NonFinal
+	long _ranked = 0;
+
+	@NonFinal
+	Boolean _persistent = true;
+
+	@NonFinal
+	Pipe<Object> _intake = null;
+
+	@NonFinal
+	Source<Consumes> _inlet = null;
+
+	@NonFinal
+	String _destination = null;
+
+	@NonFinal
+	JsonFormat _format = JsonFormat.DOCUMENT;
+
+	@NonFinal
+	GroupCommit _commit = GroupCommit.DEFAULT;
+
+	@NonFinal
+	Integer _sourceThreads = 1;
+
+	@NonFinal
+	Boolean _ordered = true;
+
+	@NonFinal
+	Boolean _resume = false;
+
+	@NonFinal
+	Boolean _incremental = false;
+
+	@NonFinal
+	String _checkpointLocation = null;
+
+	@NonFinal
+	Checkpoint _checkpoint = null;
+
+	@NonFinal
+	String _deadLetterLocation = null;
+
+	@NonFinal
+	JsonHandler<DeadLetterDocument> _deadLetter = null;
+
+	@NonFinal
+	Boolean _replay = false;
+
+	@NonFinal
+	Set<String> _replaying = null;
+
+	@NonFinal
+	volatile Consumes operand = null;
+
+	@NonFinal
+	volatile Produces result = null;
+
+	@NonFinal
+	volatile String message = null;
 
 	static {
+		// Deadlines are cancelled far more often than they expire
+		_timer.setRemoveOnCancelPolicy(true);
+
 		Option opt_helpMessage = new Option("help", "print a descriptive help message");
 		DEFAULT_OPTION_CONFIGURATION.addOption(opt_helpMessage);
 		Option opt_sourceTarget = Option.builder()
 				.longOpt("from")
-				.required()
 				.hasArg()
 				.desc("location to pull consumable source data from")
 				.get();
@@ -85,6 +264,185 @@ public abstract class Task<Consumes, Produces>
 				.desc("location to push resulting produced data to")
 				.get();
 		DEFAULT_OPTION_CONFIGURATION.addOption(opt_destinationTarget);
+		Option opt_destinationFormat = Option.builder()
+				.longOpt("format")
+				.hasArg()
+				.desc("format to write produced results in, either `json` for a single document or `ndjson` for one result per line appended to")
+				.converter((value) -> switch (value.toLowerCase()) {
+					case "json", "document" -> JsonFormat.DOCUMENT;
+					case "ndjson", "jsonl" -> JsonFormat.NDJSON;
+					default -> throw new IllegalArgumentException(String.format("Unknown format : %s", value));
+				})
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_destinationFormat);
+		Option opt_commitDurability = Option.builder()
+				.longOpt("durability")
+				.hasArg()
+				.desc("how far each commit pushes produced results and checkpointed operands, either `none`, `flush` or `fsync`")
+				.converter((value) -> Durability.valueOf(value.toUpperCase()))
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_commitDurability);
+		Option opt_commitSize = Option.builder()
+				.longOpt("commitSize")
+				.hasArg()
+				.desc("number of produced results to buffer before committing them")
+				.converter(Integer::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_commitSize);
+		Option opt_commitInterval = Option.builder()
+				.longOpt("commitInterval")
+				.hasArg()
+				.desc("maximum time (milliseconds) produced results remain buffered before being committed")
+				.converter(Long::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_commitInterval);
+		Option opt_sourceThreads = Option.builder()
+				.longOpt("sourceThreads")
+				.hasArg()
+				.desc("number of threads to parse a newline delimited source with, in parallel chunks of the file")
+				.converter(Integer::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_sourceThreads);
+		Option opt_unorderedSource = Option.builder()
+				.longOpt("unordered")
+				.desc("operate on source elements parsed in parallel as soon as they are parsed, rather than in the order of the source")
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_unorderedSource);
+		Option opt_operandConcurrency = Option.builder()
+				.longOpt("concurrency")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("maximum number of operands to operate on at once")
+				.converter(Integer::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_operandConcurrency);
+		Option opt_adaptiveConcurrency = Option.builder()
+				.longOpt("adaptive")
+				.desc("adapt the number of operands operated on at once to the health of recent operations")
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_adaptiveConcurrency);
+		Option opt_maximumConcurrency = Option.builder()
+				.longOpt("maximumConcurrency")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("maximum number of operands an adaptive task may operate on at once")
+				.converter(Integer::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_maximumConcurrency);
+		Option opt_batchSize = Option.builder()
+				.longOpt("batchSize")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("maximum number of operands to operate on in a single batch")
+				.converter(Integer::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_batchSize);
+		Option opt_operandTimeout = Option.builder()
+				.longOpt("operandTimeout")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("maximum time (milliseconds) to operate on a single operand before it is interrupted")
+				.converter(Long::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_operandTimeout);
+		Option opt_taskDeadline = Option.builder()
+				.longOpt("deadline")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("maximum time (milliseconds) to run before the task is cancelled")
+				.converter(Long::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_taskDeadline);
+		Option opt_batchLinger = Option.builder()
+				.longOpt("batchLinger")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("maximum time (milliseconds) to wait for a batch to fill before operating on it")
+				.converter(Long::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_batchLinger);
+		Option opt_prefetch = Option.builder()
+				.longOpt("prefetch")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("maximum number of operands to pull ahead of operation, so that the highest priority is operated on first, and collected operands are produced on their workload")
+				.converter(Integer::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_prefetch);
+		Option opt_virtualThreads = Option.builder()
+				.longOpt("virtual")
+				.desc("operate on each in-flight operand within its own virtual thread")
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_virtualThreads);
+		Option opt_transientResults = Option.builder()
+				.longOpt("transient")
+				.desc("do not persist produced results to the destination location")
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_transientResults);
+		Option opt_taskIdentifier = Option.builder()
+				.longOpt("id")
+				.hasArg()
+				.desc("identifier which other tasks may refer to this task by")
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_taskIdentifier);
+		Option opt_taskPrerequisites = Option.builder()
+				.longOpt("after")
+				.hasArgs()
+				.valueSeparator(',')
+				.desc("identifiers of tasks which must complete before this task runs")
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_taskPrerequisites);
+		Option opt_resumeCheckpoint = Option.builder()
+				.longOpt("resume")
+				.desc("skip operands completed by a previous run of this task")
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_resumeCheckpoint);
+		Option opt_incrementalCheckpoint = Option.builder()
+				.longOpt("incremental")
+				.desc("skip operands unchanged since any earlier run of this task, whatever its destination")
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_incrementalCheckpoint);
+		Option opt_checkpointTarget = Option.builder()
+				.longOpt("checkpoint")
+				.hasArg()
+				.desc("location to record completed operands to")
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_checkpointTarget);
+		Option opt_deadLetterTarget = Option.builder()
+				.longOpt("deadLetter")
+				.hasArg()
+				.desc("location to record operands which exhausted their retries to")
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_deadLetterTarget);
+		Option opt_fromDeadLetter = Option.builder()
+				.longOpt("fromDeadLetter")
+				.desc("only operate on operands recorded to the dead letter location by a previous run")
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_fromDeadLetter);
+		Option opt_operandRetries = Option.builder()
+				.longOpt("retries")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("maximum number of times to retry a failed operand")
+				.converter(Integer::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_operandRetries);
+		Option opt_retryDelay = Option.builder()
+				.longOpt("retryDelay")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("time (milliseconds) to wait before first retrying a failed operand")
+				.converter(Long::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_retryDelay);
+		Option opt_retryMaximumDelay = Option.builder()
+				.longOpt("retryMaximumDelay")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("maximum time (milliseconds) to wait before retrying a failed operand")
+				.converter(Long::valueOf)
+				.get();
+		DEFAULT_OPTION_CONFIGURATION.addOption(opt_retryMaximumDelay);
 	}
 
 	/**
@@ -94,26 +452,46 @@ public abstract class Task<Consumes, Produces>
 	 */
 	public Task(final @NonNull String name) {
 		_name = name;
+		_identifier = name;
 
-		_attempt = new AtomicInteger();
 		_state = new AtomicReference<State>(State.CREATED);
 		_completable = new CompletableFuture<>();
+		_runner = new AtomicReference<>();
+		_completable.whenComplete((ignored, throwable) -> {
+			final Thread runner = _runner.get();
+			if (throwable != null && runner != null && runner != Thread.currentThread()) {
+				runner.interrupt();
+			}
+		});
+
+		_retries = new LinkedBlockingQueue<>();
+		_outstanding = new AtomicInteger();
+		_window = new PriorityQueue<>();
+		_metrics = new Metrics();
+
+		_running = new ReentrantLock();
 
 		_dependencies = new ArrayList<>();
 		_dependents = new ArrayList<>();
-		_listeners = new ArrayList<>();
+		_listeners = new CopyOnWriteArrayList<>();
+		_pipes = new CopyOnWriteArrayList<>();
+		_workloads = Collections.synchronizedMap(new EnumMap<>(State.class));
 
 		_logger.fine(String.format("%s [%s] :: Task Created!", getName(), getState()));
 	}
 
 	/**
-	 * Collects all consumable data into a single collection for
+	 * Collects all consumable data into a {@link Source} for
 	 * {@link #operate(Serializable) operation} to be performed on each element
-	 * within the collection.
+	 * as it is pulled from the source.
 	 * 
-	 * @return Collection of consumable data
+	 * @return Source of consumable data, which is closed once every element has
+	 *         been operated on
+	 *
+	 * @apiNote Tasks which already hold a complete collection may adapt it using
+	 *          {@link Source#of(Iterable)}
 	 */
-	protected abstract List<@NonNull Consumes> collect();
+	protected abstract Source<@NonNull Consumes> collect();
 
 	/**
 	 * Performs an operation on `consumable` data and maps to a `producible` a
@@ -124,13 +502,119 @@ public abstract class Task<Consumes, Produces>
 	 */
 	protected abstract Produces operate(final @NonNull Consumes operand);
 
+	/**
+	 * Performs an operation on a batch of `consumable` data at once, such that
+	 * the overhead of each call (a network round trip, a bulk write) is shared by
+	 * every operand of the batch. Each produced result is then checked by
+	 * {@link #result(Object, Object)} individually.
+	 * 
+	 * @param operands Data to be mapped, holding at least two operands and no
+	 *                 more than the {@link #withConfiguration(CommandLine)
+	 *                 configured} batch size
+	 * @return Mapped results, in the same order as the operands and of the same
+	 *         size, or null when this Task does not support batches
+	 *
+	 * @implSpec The default implementation returns null, in which case each
+	 *           operand is {@link #operate(Object) operated} on individually
+	 */
+	protected List<Produces> operateBatch(final @NonNull List<Consumes> operands) {
+		return null;
+	}
+
 	/**
 	 * Self-callback function to determine the validity of the resulting data
 	 * 
-	 * @param operand Data to be checked
+	 * @param operand  Data which was operated on
+	 * @param produced Data to be checked
 	 * @return Mapped result
+	 *
+	 * @apiNote May be called concurrently for different operands when this Task
+	 *          is {@link #withConfiguration(CommandLine) configured} with a
+	 *          concurrency greater than one
+	 */
+	protected abstract boolean result(final @NonNull Consumes operand, final Produces produced);
+
+	/**
+	 * Provides a key which uniquely identifies an operand across runs of this
+	 * `Task`, used to {@link Checkpoint checkpoint} completed operands. A key
+	 * which also reflects the content of an operand causes a changed operand to
+	 * be operated on again by an incremental run.
+	 * 
+	 * @param operand Operand to identify
+	 * @return Key of the operand, or null when the operand should never be
+	 *         skipped
+	 *
+	 * @apiNote A key is asked for before an operand is operated on, to skip it,
+	 *          and again once it has completed, to record it. Tasks whose content
+	 *          is only known once operated on, such as a fetched page, may key
+	 *          it by that content once known and check it with
+	 *          {@link #recorded(String)}
+	 */
+	protected String key(final @NonNull Consumes operand) {
+		return null;
+	}
+
+	/**
+	 * Provides whether a given key was recorded by an operand completed by a
+	 * previous or restarted run of this `Task`.
+	 * 
+	 * @param key Key to check
+	 * @return True when the key was recorded
 	 */
-	protected abstract boolean result(final Produces operand);
+	protected boolean recorded(final @NonNull String key) {
+		final Checkpoint checkpoint = _checkpoint;
+		return checkpoint != null && checkpoint.contains(key);
+	}
+
+	/**
+	 * Provides a fingerprint of given content, suited to a {@link #key(Object)
+	 * key} which reflects the content of an operand.
+	 * 
+	 * @param content Content to fingerprint
+	 * @return Hex SHA-256 digest of the UTF-8 encoding of the content
+	 */
+	protected static String fingerprint(final @NonNull String content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+					.digest(content.getBytes(StandardCharsets.UTF_8)));
+		} catch (final NoSuchAlgorithmException exception) {
+			throw new IllegalStateException("SHA-256 is unavailable", exception);
+		}
+	}
+
+	/**
+	 * Classifies whether a failure thrown while operating on an operand may be
+	 * resolved by retrying it.
+	 * 
+	 * @param failure Failure thrown while operating
+	 * @return True when the operand should be retried
+	 */
+	protected boolean retryable(final @NonNull Throwable failure) {
+		return true;
+	}
+
+	/**
+	 * Provides whether a failure of an operand signals that whatever this `Task`
+	 * operates against is overloaded, in which case an
+	 * {@link #withConfiguration(CommandLine) adaptive} task backs off the number
+	 * of operands it operates on at once.
+	 * 
+	 * @param failure Failure thrown while operating
+	 * @return True when the failure, or any of its causes, is a timeout
+	 *
+	 * @apiNote Tasks may override this to also treat responses such as HTTP 429
+	 *          or rate limit errors as overload
+	 */
+	protected boolean overloaded(final @NonNull Throwable failure) {
+		for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+			if (cause instanceof DeadlineExceededException
+					|| cause instanceof TimeoutException
+					|| cause instanceof InterruptedIOException) {
+				return true;
+			}
+		}
+		return false;
+	}
 
 	/**
 	 * Restarts the current `Task`, performs necessary clean-up operations on this
@@ -145,11 +629,25 @@ public abstract class Task<Consumes, Produces>
 	 */
 	protected abstract void restart() throws IOException;
 
+	/**
+	 * Commits every result this `Task` has written so far, called before its
+	 * {@link Checkpoint checkpoint} commits the operands which produced them.
+	 * 
+	 * @throws IOException When a critical IO failure occurs while committing
+	 * 
+	 * @apiNote Tasks which write their results as they are produced should
+	 *          override this to commit them
+	 */
+	protected void commit() throws IOException {
+	}
+
 	/**
 	 * Provides the {@link CompletableFuture Future} of this `Task`
 	 * 
 	 * @apiNote This should be used to await the dependencies of the given task
-	 *          using {@link CompletableFuture#join() join()}.
+	 *          using {@link CompletableFuture#join() join()}. Cancelling it, or
+	 *          completing it exceptionally, stops the task and interrupts any
+	 *          operand in flight.
 	 * 
 	 * @return Completable future of the current operation
 	 */
@@ -171,21 +669,278 @@ public abstract class Task<Consumes, Produces>
 				.add(this);
 	}
 
+	/**
+	 * Pipes each result produced by this `Task` into a downstream `Task` as soon
+	 * as it is produced, which consumes them in place of its own
+	 * {@link #collect() collection}. A downstream Task may be piped into from
+	 * any number of upstream Tasks, and consumes every one of their results.
+	 * 
+	 * @param downstream Task to pipe results into
+	 * @param capacity   Maximum number of results held before this Task blocks,
+	 *                   used only by the first upstream piped into the Task
+	 */
+	public synchronized void withPipe(final @NonNull Task<?, ?> downstream, final int capacity) {
+		final Pipe<Object> pipe = downstream.withInlet(capacity);
+		pipe.withWriter();
+		_pipes.add(pipe);
+		_completable.whenComplete((ignored, throwable) -> pipe.seal());
+	}
+
+	/**
+	 * Replaces the {@link #collect() collection} of this `Task` with results piped
+	 * from upstream `Tasks`, each of which shares a single Pipe.
+	 * 
+	 * @param capacity Maximum number of results held before upstream Tasks block
+	 * @return Pipe of upstream results
+	 */
+	private synchronized Pipe<Object> withInlet(final int capacity) {
+		if (_intake == null) {
+			_intake = new Pipe<>(capacity);
+			_inlet = _intake.flatMap(this::adapted);
+		}
+		return _intake;
+	}
+
+	/**
+	 * Operates on each in-flight operand within its own thread created by a
+	 * given factory, rather than on a fixed pool of platform threads.
+	 * 
+	 * @param factory Factory to create a thread per operand with, such as a
+	 *                {@link Thread#ofVirtual() virtual} thread factory
+	 */
+	public synchronized void withOperandThreads(final @NonNull ThreadFactory factory) {
+		_operandThreads = factory;
+	}
+
+	/**
+	 * Modifies the {@link Workload} a stage of this `Task` runs on, so that the
+	 * stage holds only threads of that workload while it runs.
+	 * 
+	 * @param stage    Stage to run, one of {@link State#COLLECTING collecting},
+	 *                 {@link State#OPERATING operating} or
+	 *                 {@link State#PRODUCING_RESULT producing a result}
+	 * @param workload Workload to run the stage on
+	 * @throws IllegalArgumentException When the state given is not a stage
+	 */
+	public void withWorkload(final @NonNull State stage, final @NonNull Workload workload)
+			throws IllegalArgumentException {
+		if (stage != State.COLLECTING && stage != State.OPERATING && stage != State.PRODUCING_RESULT) {
+			throw new IllegalArgumentException(String.format("Invalid stage : %s", stage.name()));
+		}
+		_workloads.put(stage, workload);
+	}
+
 	/**
 	 * Adds a message update listener `Runnable` to this `Task`, which
 	 * {@link Runnable#run() updates} on
-	 * each call to {@link #setMessage(String) update message}.
+	 * each call to {@link #withMessage(String, Level) update message} or
+	 * {@link #withState(State) update state}. Listeners are run on the updating
+	 * thread while no lock of this `Task` is held.
 	 * 
 	 * @param listener Listener to add as listener
 	 */
-	public synchronized void withListener(final @NonNull Runnable listener) {
+	public void withListener(final @NonNull Runnable listener) {
 		_listeners.add(listener);
 	}
 
+	/**
+	 * Modifies the {@link Priority} operands of this `Task` are operated on by,
+	 * which takes effect for operands pulled after it is modified.
+	 * 
+	 * @param priority Priority to rank operands with, or null to operate on
+	 *                 operands in the order they are collected
+	 */
+	protected void withPriority(final Priority<Consumes> priority) {
+		_priority = priority;
+	}
+
+	/**
+	 * Configures the options shared by every `Task` from a parsed command line.
+	 * 
+	 * @param command Parsed command line of this task
+	 * @throws ParseException When a shared option holds an invalid value
+	 */
+	protected void withConfiguration(final @NonNull CommandLine command) throws ParseException {
+		Integer concurrency = command.getParsedOptionValue("concurrency");
+		if (concurrency != null && concurrency < 1) {
+			throw new ParseException(String.format("Invalid concurrency : %d", concurrency));
+		}
+		_concurrency = concurrency != null ? concurrency : DEFAULT_OPERAND_CONCURRENCY;
+		Integer maximumConcurrency = command.getParsedOptionValue("maximumConcurrency");
+		if (maximumConcurrency != null && maximumConcurrency < _concurrency) {
+			throw new ParseException(String.format("Invalid maximum concurrency : %d", maximumConcurrency));
+		}
+		if (command.hasOption("adaptive")) {
+			_maximumConcurrency = maximumConcurrency != null ? maximumConcurrency
+					: Math.max(_concurrency, Limiter.DEFAULT_MAXIMUM_LIMIT);
+			_limiter = Limiter.adaptive(_concurrency, _maximumConcurrency);
+		} else {
+			_maximumConcurrency = _concurrency;
+			_limiter = Limiter.fixed(_concurrency);
+		}
+		Integer batchSize = command.getParsedOptionValue("batchSize");
+		if (batchSize != null && batchSize < 1) {
+			throw new ParseException(String.format("Invalid batch size : %d", batchSize));
+		}
+		_batchSize = batchSize != null ? batchSize : DEFAULT_BATCH_SIZE;
+		Long batchLinger = command.getParsedOptionValue("batchLinger");
+		if (batchLinger != null && batchLinger < 0) {
+			throw new ParseException(String.format("Invalid batch linger : %d", batchLinger));
+		}
+		_batchLinger = batchLinger != null ? Duration.ofMillis(batchLinger) : DEFAULT_BATCH_LINGER;
+		Integer prefetch = command.getParsedOptionValue("prefetch");
+		if (prefetch != null && prefetch < 1) {
+			throw new ParseException(String.format("Invalid prefetch : %d", prefetch));
+		}
+		_prefetch = prefetch != null ? prefetch : DEFAULT_PREFETCH;
+		Long operandTimeout = command.getParsedOptionValue("operandTimeout");
+		if (operandTimeout != null && operandTimeout < 1) {
+			throw new ParseException(String.format("Invalid operand timeout : %d", operandTimeout));
+		}
+		_operandTimeout = operandTimeout != null ? Duration.ofMillis(operandTimeout) : null;
+		Long deadline = command.getParsedOptionValue("deadline");
+		if (deadline != null && deadline < 1) {
+			throw new ParseException(String.format("Invalid deadline : %d", deadline));
+		}
+		_deadline = deadline != null ? Duration.ofMillis(deadline) : null;
+		_persistent = !command.hasOption("transient");
+		if (command.hasOption("virtual")) {
+			withOperandThreads(Thread.ofVirtual()
+					.name(String.format("%s-operand-", getName()), 0)
+					.factory());
+		}
+
+		Integer retries = command.getParsedOptionValue("retries");
+		Long retryDelay = command.getParsedOptionValue("retryDelay");
+		Long retryMaximumDelay = command.getParsedOptionValue("retryMaximumDelay");
+		Duration initialDelay = retryDelay != null ? Duration.ofMillis(retryDelay) : RetryPolicy.DEFAULT_INITIAL_DELAY;
+		try {
+			_retryPolicy = RetryPolicy.of(
+					retries != null ? retries : MAXIMUM_OPERAND_RETRIES,
+					initialDelay,
+					retryMaximumDelay != null ? Duration.ofMillis(retryMaximumDelay)
+							: initialDelay.compareTo(RetryPolicy.DEFAULT_MAXIMUM_DELAY) > 0 ? initialDelay
+									: RetryPolicy.DEFAULT_MAXIMUM_DELAY);
+		} catch (final IllegalArgumentException exception) {
+			throw new ParseException(exception.getMessage());
+		}
+		_identifier = command.getOptionValue("id", getName());
+		String[] prerequisites = command.getOptionValues("after");
+		_prerequisites = prerequisites != null ? List.of(prerequisites) : List.of();
+
+		JsonFormat format = command.getParsedOptionValue("format");
+		_format = format != null ? format : JsonFormat.DOCUMENT;
+		String destinationTarget = command.getOptionValue("to");
+		_destination = destinationTarget != null ? destinationTarget
+				: String.format(DEFAULT_DESTINATION_LOCATION, getName(), LocalDate
+						.now()
+						.toString(), _format.getExtension());
+		Durability durability = command.getParsedOptionValue("durability");
+		Integer commitSize = command.getParsedOptionValue("commitSize");
+		Long commitInterval = command.getParsedOptionValue("commitInterval");
+		try {
+			_commit = new GroupCommit(
+					durability != null ? durability : GroupCommit.DEFAULT.durability(),
+					commitSize != null ? commitSize : GroupCommit.DEFAULT.size(),
+					commitInterval != null ? Duration.ofMillis(commitInterval) : GroupCommit.DEFAULT.interval());
+		} catch (final IllegalArgumentException exception) {
+			throw new ParseException(exception.getMessage());
+		}
+		Integer sourceThreads = command.getParsedOptionValue("sourceThreads");
+		if (sourceThreads != null && sourceThreads < 1) {
+			throw new ParseException(String.format("Invalid source threads : %d", sourceThreads));
+		}
+		_sourceThreads = sourceThreads != null ? sourceThreads : 1;
+		_ordered = !command.hasOption("unordered");
+		_incremental = command.hasOption("incremental");
+		_resume = command.hasOption("resume") || _incremental;
+		_checkpointLocation = command.getOptionValue("checkpoint", command.hasOption("incremental")
+				? String.format(DEFAULT_INCREMENTAL_LOCATION, _identifier)
+				: String.format(Checkpoint.DEFAULT_CHECKPOINT_LOCATION, _destination));
+		_replay = command.hasOption("fromDeadLetter");
+		_deadLetterLocation = command.getOptionValue("deadLetter",
+				String.format(DEFAULT_DEAD_LETTER_LOCATION, _destination));
+	}
+
+	/**
+	 * Adapts a result produced by an upstream `Task` into consumable data of this
+	 * `Task`.
+	 * 
+	 * @param produced Result produced by an upstream Task
+	 * @return Consumable data, or null when this Task can not consume the result
+	 *
+	 * @apiNote Only called when this Task is {@link #withPipe(Task, int) piped}
+	 *          into from an upstream Task
+	 */
+	protected Consumes adapt(final @NonNull Object produced) {
+		return null;
+	}
+
+	/**
+	 * Adapts a piped result into consumable data, skipping results which can not
+	 * be consumed.
+	 * 
+	 * @param produced Result produced by an upstream Task
+	 * @return Iterator of consumable data, which is empty when skipped
+	 */
+	private Iterator<Consumes> adapted(final @NonNull Object produced) {
+		final Consumes consumed = adapt(produced);
+		if (consumed == null) {
+			_logger.warning(String.format("%s [%s] :: Skipped unconsumable piped result %s", getName(), getState(),
+					produced));
+			return Collections.emptyIterator();
+		}
+		return Collections.singletonList(consumed).iterator();
+	}
+
 	@Override
-	public synchronized void run() {
-		ListIterator<Consumes> iterableData = null;
-		boolean lastOk = true;
+	public void run() {
+		_running.lock();
+		_runner.set(Thread.currentThread());
+		ScheduledFuture<?> expiration = null;
+		if (_deadline != null) {
+			_expiry = System.nanoTime() + _deadline.toNanos();
+			expiration = _timer.schedule(() -> _completable.completeExceptionally(new DeadlineExceededException(
+					String.format("%s exceeded its deadline of %s", getName(), _deadline), null)),
+					_deadline.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		try {
+			operateStates();
+		} finally {
+			if (expiration != null) {
+				expiration.cancel(false);
+			}
+			_runner.set(null);
+			if (_completable.isCompletedExceptionally()) {
+				Thread.interrupted();
+			}
+			_running.unlock();
+			if (_checkpoint != null) {
+				try {
+					_checkpoint.close();
+				} catch (final IOException exception) {
+					_logger.warning(String.format("%s [%s] :: Failed to close checkpoint %s", getName(), getState(),
+							exception.getMessage()));
+				}
+			}
+			if (_deadLetter != null) {
+				try {
+					_deadLetter.close();
+				} catch (final IOException exception) {
+					_logger.warning(String.format("%s [%s] :: Failed to close dead letter %s", getName(), getState(),
+							exception.getMessage()));
+				}
+				_deadLetter = null;
+			}
+		}
+	}
+
+	/**
+	 * Drives this `Task` through each of its {@link State states} until it has
+	 * completed or failed.
+	 */
+	private void operateStates() {
+		Source<Consumes> iterableData = null;
 		while (!_completable.isDone()) {
 			try {
 				State state = _state.get();
@@ -199,61 +954,46 @@ public abstract class Task<Consumes, Produces>
 						CompletableFuture<?>[] dependents = _dependents.stream()
 								.map(Task::completable)
 								.toArray(CompletableFuture[]::new);
-						CompletableFuture.allOf(dependents).join();
+						CompletableFuture.allOf(dependents).get();
 						withState(State.COLLECTING);
 						break;
 					}
 
 					case COLLECTING -> {
-						iterableData = collect().listIterator();
-						withState(State.OPERATING);
-						break;
-					}
-
-					case OPERATING -> {
-						if (!iterableData.hasNext()) {
-							withState(State.COMPLETED);
-							break;
+						if (_checkpoint == null) {
+							_checkpoint = _persistent && _checkpointLocation != null
+									? Checkpoint.acquire(Path.of(_checkpointLocation), _resume || _replay, _commit,
+											this::commit)
+									: Checkpoint.inMemory();
 						}
-						result = operate(operand = iterableData.next());
-						withState(State.PRODUCING_RESULT);
-						break;
-					}
-
-					case PRODUCING_RESULT -> {
-						boolean ok = result(result);
-						if (!lastOk && ok) {
-							_attempt.set(0);
+						if (_replay && _replaying == null && _deadLetterLocation != null) {
+							_replaying = withReplay(Path.of(_deadLetterLocation));
+						}
+						if (_deadLetter == null && _persistent && _deadLetterLocation != null) {
+							if (!_resume && !_replay) {
+								Files.deleteIfExists(Path.of(_deadLetterLocation));
+							}
+							_deadLetter = JsonHandler.acquireWriter(_deadLetterLocation, _deadLetterSerializer);
 						}
-						if (!ok) {
-							withState(State.RETRYING);
-						} else {
+						iterableData = _inlet != null ? _inlet : collected();
+						if (!_completable.isDone()) {
 							withState(State.OPERATING);
 						}
-						lastOk = ok;
 						break;
 					}
 
-					case RETRYING -> {
-						final int currentAttempt = _attempt.getAndIncrement();
-						if (currentAttempt >= MAXIMUM_OPERAND_RETRIES) {
-							_attempt.set(0);
-							if (iterableData.hasNext()) {
-								withState(State.OPERATING);
-							} else {
-								withState(State.COMPLETED);
-							}
-						} else {
-							iterableData.previous();
-							withState(State.OPERATING);
+					case OPERATING -> {
+						try (Source<Consumes> operands = iterableData) {
+							iterableData = null;
+							operateAll(operands);
 						}
+						withState(State.COMPLETED);
 						break;
 					}
 
 					case RESTARTING -> {
 						restart();
 						withState(State.AWAITING_DEPENDENCIES);
-						_attempt.set(0);
 						break;
 					}
 
@@ -274,27 +1014,659 @@ public abstract class Task<Consumes, Produces>
 				throwable.printStackTrace();
 			}
 		}
+		if (iterableData != null) {
+			try {
+				iterableData.close();
+			} catch (final IOException exception) {
+				_logger.warning(String.format("%s [%s] :: Failed to close source %s", getName(), getState(),
+						exception.getMessage()));
+			}
+		}
+		if (!getState().isTerminal()) {
+			withMessage("Cancelled", Level.WARNING);
+			withState(State.FAILED);
+		}
 	}
 
 	/**
-	 * Modifies (safely) the current state of this `Task`.
+	 * Operates on every operand supplied, keeping at most
+	 * {@link #withConfiguration(CommandLine) concurrency} operands, or batches of
+	 * operands, in flight at once. Operands awaiting a {@link RetryPolicy retry}
+	 * do not occupy a slot, so other operands keep flowing while they wait.
+	 * 
+	 * @param operands Operands to operate on
+	 * @throws InterruptedException When interrupted while awaiting a free operand
+	 *                              slot
+	 */
+	private void operateAll(final @NonNull Source<Consumes> operands) throws InterruptedException {
+		_retries.forEach(this::release);
+		_retries.clear();
+		_outstanding.set(0);
+		_window.forEach((ranked) -> release(ranked.operation()));
+		_window.clear();
+		_metrics.withStart();
+		try (ExecutorService workers = _operandThreads != null
+				? Executors.newThreadPerTaskExecutor(_operandThreads)
+				: Executors.newFixedThreadPool(_maximumConcurrency)) {
+			try {
+				dispatch(operands, workers);
+			} catch (final InterruptedException | CancellationException exception) {
+				workers.shutdownNow();
+				throw exception;
+			}
+		} finally {
+			_metrics.withStop();
+		}
+	}
+
+	/**
+	 * Dispatches every operand supplied, and every operand awaiting a retry, to
+	 * the workers of this `Task` until none remain. While any operand is
+	 * outstanding, the Source is waited on no longer than a retry poll, so that
+	 * retries falling due are not held behind a Source awaiting an upstream
+	 * `Task`.
+	 * 
+	 * @param operands Operands to dispatch
+	 * @param workers  Workers to dispatch operations to
+	 * @throws InterruptedException When interrupted while awaiting a free operand
+	 *                              slot or a retry
+	 */
+	private void dispatch(
+			final @NonNull Source<Consumes> operands,
+			final @NonNull ExecutorService workers) throws InterruptedException {
+		boolean exhausted = false;
+		while (true) {
+			if (_completable.isDone()) {
+				throw new CancellationException(String.format("%s was cancelled", getName()));
+			}
+			Operation<Consumes> operation = _retries.poll();
+			final boolean waiting = !exhausted && _outstanding.get() > 0;
+			if (operation == null
+					&& pending(operands, waiting ? Duration.ofMillis(RETRY_POLL_MILLISECONDS) : null)) {
+				operation = pull(operands, Duration.ZERO);
+				if (operation == null) {
+					continue;
+				}
+			} else if (operation == null) {
+				if (!waiting && !exhausted) {
+					exhausted = true;
+					_metrics.withExhaustion();
+				}
+				if (exhausted && _outstanding.get() == 0) {
+					break;
+				}
+				operation = _retries.poll(RETRY_POLL_MILLISECONDS, TimeUnit.MILLISECONDS);
+				if (operation == null) {
+					continue;
+				}
+			}
+			final List<Operation<Consumes>> batch = _batching && _batchSize > 1
+					? gather(operation, operands)
+					: List.of(operation);
+			_limiter.acquire();
+			workers.execute(() -> {
+				final long started = System.nanoTime();
+				final Throwable failure;
+				try {
+					failure = batch.size() == 1
+							? process(batch.get(0))
+							: processBatch(batch);
+				} catch (final Error error) {
+					batch.forEach(this::settle);
+					_limiter.release();
+					throw error;
+				}
+				final Duration latency = Duration.ofNanos(System.nanoTime() - started);
+				if (failure == null) {
+					_limiter.release(latency, false);
+				} else if (overloaded(failure)) {
+					_limiter.release(latency, true);
+				} else {
+					_limiter.release();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Arms a {@link Deadline} on the current thread for a single attempt, which
+	 * expires after the {@link #withConfiguration(CommandLine) operand timeout}
+	 * or at the deadline of this `Task`, whichever is sooner.
+	 * 
+	 * @return Armed deadline, or null when neither is configured
+	 */
+	private Deadline arm() {
+		long expiry = _expiry;
+		if (_operandTimeout != null) {
+			expiry = Math.min(expiry, System.nanoTime() + _operandTimeout.toNanos());
+		}
+		return expiry != Long.MAX_VALUE ? Deadline.arm(expiry, _timer) : null;
+	}
+
+	/**
+	 * Closes a {@link Deadline} armed for a single attempt, then re-asserts the
+	 * interrupt of a cancelled `Task`, should closing the deadline have cleared
+	 * it along with its own.
+	 * 
+	 * @param deadline Deadline to close, or null when none was armed
+	 */
+	private void disarm(final Deadline deadline) {
+		if (deadline == null) {
+			return;
+		}
+		deadline.close();
+		if (_completable.isCompletedExceptionally()) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Provides whether an operand remains to be pulled, either already
+	 * prefetched or from a {@link Source}.
+	 * 
+	 * @param operands Operands to pull from
+	 * @param timeout  Maximum time to wait for an operand of the Source, or null
+	 *                 to wait until one is available or the Source is exhausted
+	 * @return True when an operand may be {@link #pull(Source, Duration) pulled}
+	 */
+	private boolean pending(final @NonNull Source<Consumes> operands, final Duration timeout) {
+		if (!_window.isEmpty()) {
+			return true;
+		}
+		if (replayed()) {
+			return false;
+		}
+		return timeout != null ? operands.available(timeout) : operands.hasNext();
+	}
+
+	/**
+	 * Pulls the next operation to dispatch. Without a {@link Priority}, this is
+	 * the next operand of the {@link Source}. Otherwise, up to
+	 * {@link #withConfiguration(CommandLine) prefetch} operands are pulled ahead
+	 * into a window, from which the operand of lowest rank is taken.
+	 * 
+	 * @param operands Operands to pull from
+	 * @param timeout  Maximum time to wait for an operand of the Source when none
+	 *                 is prefetched
+	 * @return Operation on the operand pulled, or null when none was available or
+	 *         every operand pulled was skipped
+	 */
+	private Operation<Consumes> pull(final @NonNull Source<Consumes> operands, final @NonNull Duration timeout) {
+		final Priority<Consumes> priority = _priority;
+		if (priority == null && _window.isEmpty()) {
+			final long pulling = System.nanoTime();
+			return !replayed() && operands.available(timeout) ? admit(operands.next(), pulling) : null;
+		}
+		while (priority != null && _window.size() < _prefetch && !replayed()) {
+			final long pulling = System.nanoTime();
+			if (!operands.available(_window.isEmpty() ? timeout : Duration.ZERO)) {
+				break;
+			}
+			final Operation<Consumes> operation = admit(operands.next(), pulling);
+			if (operation != null) {
+				_window.add(new Ranked<>(operation, priority.rank(operation.getOperand()), _ranked++));
+			}
+		}
+		final Ranked<Consumes> ranked = _window.poll();
+		return ranked != null ? ranked.operation() : null;
+	}
+
+	/**
+	 * Admits an operand pulled from a {@link Source} as a new {@link Operation},
+	 * unless it was already {@link #completed(Object) completed}.
+	 * 
+	 * @param consumed Operand pulled
+	 * @param pulling  Time, in nanoseconds, at which pulling the operand began
+	 * @return Operation on the operand, or null when it is skipped
+	 */
+	private Operation<Consumes> admit(final @NonNull Consumes consumed, final long pulling) {
+		_metrics.withCollect(System.nanoTime() - pulling);
+		if (!replaying(consumed) || completed(consumed)) {
+			return null;
+		}
+		_outstanding.incrementAndGet();
+		_metrics.withOperand();
+		return new Operation<>(consumed);
+	}
+
+	/**
+	 * Gathers a batch of up to {@link #withConfiguration(CommandLine) batch size}
+	 * operations, beginning with a given operation. Retried operations are
+	 * gathered first, then operands of the {@link Source}, for which the batch
+	 * waits no longer than the {@link #withConfiguration(CommandLine) batch
+	 * linger} after its first operation.
+	 * 
+	 * @param first    Operation to begin the batch with
+	 * @param operands Operands to gather from
+	 * @return Batch of at least one operation
+	 */
+	private List<Operation<Consumes>> gather(
+			final @NonNull Operation<Consumes> first,
+			final @NonNull Source<Consumes> operands) {
+		final List<Operation<Consumes>> batch = new ArrayList<>(_batchSize);
+		batch.add(first);
+		final long deadline = System.nanoTime() + _batchLinger.toNanos();
+		while (batch.size() < _batchSize) {
+			Operation<Consumes> operation = _retries.poll();
+			if (operation == null) {
+				final Duration remaining = Duration.ofNanos(Math.max(deadline - System.nanoTime(), 0));
+				if (!pending(operands, remaining)) {
+					break;
+				}
+				operation = pull(operands, remaining);
+				if (operation == null) {
+					continue;
+				}
+			}
+			batch.add(operation);
+		}
+		return batch;
+	}
+
+	/**
+	 * Drives a single attempt of an {@link Operation} through
+	 * {@link State#OPERATING operating} and {@link State#PRODUCING_RESULT
+	 * producing a result}.
+	 * 
+	 * @param operation Operation to drive
+	 * @return Failure of the attempt to operate, or null when it operated
+	 */
+	private Throwable process(final @NonNull Operation<Consumes> operation) {
+		final Consumes consumed = operation.getOperand();
+		operation.withState(State.OPERATING);
+		Produces produced = null;
+		RuntimeException failure = null;
+		final Deadline deadline = arm();
+		try {
+			final long operating = System.nanoTime();
+			operand = consumed;
+			produced = staged(State.OPERATING, () -> operate(consumed));
+			_metrics.withOperate(System.nanoTime() - operating);
+		} catch (final RuntimeException exception) {
+			failure = exception;
+		} finally {
+			disarm(deadline);
+		}
+		if (deadline != null && deadline.isExpired()) {
+			failure = new DeadlineExceededException(String.format("Operand exceeded its deadline : %s", consumed),
+					failure);
+		}
+		if (failure != null) {
+			_logger.warning(String.format("%s [%s] :: Operation failed %s", getName(), getState(),
+					failure.getMessage()));
+			retry(operation, failure);
+			return failure;
+		}
+		produce(operation, produced);
+		return null;
+	}
+
+	/**
+	 * Drives a single attempt of a batch of {@link Operation operations} through
+	 * {@link #operateBatch(List) operating} together, then fans each produced
+	 * result back out to {@link #produce(Operation, Object) produce} on its own.
+	 * A failure of the batch as a whole fails the attempt of every operation in
+	 * it, each of which is then retried individually. When this `Task` does not
+	 * support batches, each operation is instead {@link #process(Operation)
+	 * processed} on its own, and no further batches are gathered.
+	 * 
+	 * @param batch Operations to drive
+	 * @return Failure of the attempt to operate on the batch, or of the first
+	 *         operation to fail when batches are not supported, or null when it
+	 *         operated
+	 */
+	private Throwable processBatch(final @NonNull List<Operation<Consumes>> batch) {
+		final List<Consumes> consumed = batch.stream()
+				.map(Operation::getOperand)
+				.toList();
+		List<Produces> produced = null;
+		RuntimeException failure = null;
+		final Deadline deadline = arm();
+		try {
+			final long operating = System.nanoTime();
+			produced = staged(State.OPERATING, () -> operateBatch(consumed));
+			_metrics.withOperate(System.nanoTime() - operating);
+			if (produced != null && produced.size() != batch.size()) {
+				throw new IllegalStateException(String.format("Batch of %d operands produced %d results",
+						batch.size(), produced.size()));
+			}
+		} catch (final RuntimeException exception) {
+			failure = exception;
+		} finally {
+			disarm(deadline);
+		}
+		if (deadline != null && deadline.isExpired()) {
+			failure = new DeadlineExceededException(String.format("Batch of %d operands exceeded its deadline",
+					batch.size()), failure);
+		}
+		if (failure != null) {
+			_logger.warning(String.format("%s [%s] :: Batch operation failed %s", getName(), getState(),
+					failure.getMessage()));
+		}
+		if (failure == null && produced == null) {
+			_batching = false;
+			Throwable first = null;
+			for (final Operation<Consumes> operation : batch) {
+				final Throwable failed = process(operation);
+				first = first != null ? first : failed;
+			}
+			return first;
+		}
+		operand = consumed.get(consumed.size() - 1);
+		for (int index = 0; index < batch.size(); index++) {
+			final Operation<Consumes> operation = batch.get(index);
+			operation.withState(State.OPERATING);
+			if (failure != null) {
+				retry(operation, failure);
+			} else {
+				produce(operation, produced.get(index));
+			}
+		}
+		return failure;
+	}
+
+	/**
+	 * Drives an {@link Operation} which has {@link State#OPERATING operated}
+	 * through {@link State#PRODUCING_RESULT producing a result}, then publishes
+	 * and records it.
+	 * 
+	 * @param operation Operation to drive
+	 * @param produced  Result produced by operating, which may be null
+	 */
+	private void produce(final @NonNull Operation<Consumes> operation, final Produces produced) {
+		final Consumes consumed = operation.getOperand();
+		Throwable failure = null;
+		boolean ok;
+		try {
+			result = produced;
+			operation.withState(State.PRODUCING_RESULT);
+			final long producing = System.nanoTime();
+			ok = staged(State.PRODUCING_RESULT, () -> result(consumed, produced));
+			_metrics.withResult(System.nanoTime() - producing);
+		} catch (final RuntimeException exception) {
+			ok = false;
+			failure = exception;
+			_logger.warning(String.format("%s [%s] :: Operation failed %s", getName(), getState(),
+					exception.getMessage()));
+		}
+		if (ok) {
+			publish(produced);
+			record(consumed);
+			operation.withState(State.COMPLETED);
+			_metrics.withSuccess();
+			settle(operation);
+			return;
+		}
+		retry(operation, failure);
+	}
+
+	/**
+	 * Runs a stage of this `Task` on the {@link Workload} it was
+	 * {@link #withWorkload(State, Workload) declared} to run on, or on the
+	 * calling thread when none was declared.
+	 * 
+	 * @param <Result> Type of result of the stage
+	 * @param stage    Stage to run
+	 * @param call     Call which runs the stage
+	 * @return Result of the stage
+	 */
+	private <Result> Result staged(final @NonNull State stage, final @NonNull Supplier<Result> call) {
+		final Workload workload = _workloads.get(stage);
+		return workload != null ? workload.call(call) : call.get();
+	}
+
+	/**
+	 * Collects the operands of this `Task` on the {@link Workload} its
+	 * {@link State#COLLECTING collecting} stage was declared to run on, which
+	 * also pulls each operand ahead of dispatch, since a {@link Source} may
+	 * produce its operands lazily.
+	 * 
+	 * @return Source of collected operands
+	 */
+	private Source<Consumes> collected() {
+		final Source<Consumes> collected = staged(State.COLLECTING, this::collect);
+		final Workload workload = _workloads.get(State.COLLECTING);
+		final ExecutorService pool = workload != null ? workload.getPool() : null;
+		return pool != null ? collected.prefetch(pool, _prefetch) : collected;
+	}
+
+	/**
+	 * Fails the latest attempt of an {@link Operation}, which is then
+	 * {@link State#RETRYING retried} after a delay given by the
+	 * {@link RetryPolicy retry policy} of this `Task`, unless the failure is not
+	 * {@link #retryable(Throwable) retryable} or the operand has exhausted its
+	 * retries.
+	 * 
+	 * @param operation Operation whose attempt failed
+	 * @param failure   Failure thrown during the attempt, or null when the attempt
+	 *                  produced an invalid result
+	 */
+	private void retry(final @NonNull Operation<Consumes> operation, final Throwable failure) {
+		if (_completable.isDone()) {
+			settle(operation);
+			return;
+		}
+		operation.withState(State.RETRYING);
+		operation.withFailure(failure);
+		final int attempt = operation.withAttempt();
+		if ((failure != null && !retryable(failure)) || _retryPolicy.exhausted(attempt)) {
+			operation.withState(State.FAILED);
+			_logger.warning(String.format("%s [%s] :: Operand exhausted retries %s", getName(), getState(),
+					operation.getOperand()));
+			deadLetter(operation);
+			_metrics.withFailure();
+			settle(operation);
+			return;
+		}
+		_metrics.withRetry();
+		final Duration delay = _retryPolicy.delay(attempt);
+		_timer.schedule(() -> _retries.add(operation), delay.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Settles an {@link Operation} which will not be operated on again, so that
+	 * it no longer counts as outstanding.
+	 * 
+	 * @param operation Operation to settle
+	 */
+	private void settle(final @NonNull Operation<Consumes> operation) {
+		_outstanding.decrementAndGet();
+		release(operation);
+	}
+
+	/**
+	 * Releases the operand of an {@link Operation} from the {@link Priority} it
+	 * was ranked by, if any.
+	 * 
+	 * @param operation Operation to release
+	 */
+	private void release(final @NonNull Operation<Consumes> operation) {
+		final Priority<Consumes> priority = _priority;
+		if (priority != null) {
+			priority.release(operation.getOperand());
+		}
+	}
+
+	/**
+	 * Provides whether an operand was already completed by a previous or
+	 * restarted run of this `Task`.
+	 * 
+	 * @param consumed Operand to check
+	 * @return True when the operand should be skipped
+	 */
+	private boolean completed(final @NonNull Consumes consumed) {
+		final String key = key(consumed);
+		return key != null && _checkpoint.contains(key);
+	}
+
+	/**
+	 * Provides whether an operand is to be operated on when
+	 * {@link #withConfiguration(CommandLine) replaying} a dead letter, and if so
+	 * marks it as no longer awaited. Operands without a {@link #key(Object) key}
+	 * can not be replayed.
+	 * 
+	 * @param consumed Operand to check
+	 * @return True when not replaying, or when the operand was dead lettered
+	 */
+	private boolean replaying(final @NonNull Consumes consumed) {
+		if (_replaying == null) {
+			return true;
+		}
+		final String key = key(consumed);
+		return key != null && _replaying.remove(key);
+	}
+
+	/**
+	 * Provides whether every dead lettered operand being replayed has been
+	 * collected, so that the remainder of the {@link Source} need not be pulled.
+	 * 
+	 * @return True when replaying and no dead lettered operand remains
+	 */
+	private boolean replayed() {
+		return _replaying != null && _replaying.isEmpty();
+	}
+
+	/**
+	 * Reads the keys of every operand recorded to a dead letter, then moves the
+	 * dead letter aside so that this run may record its own.
+	 * 
+	 * @param location Location of the dead letter
+	 * @return Keys of dead lettered operands, which is empty when there is no
+	 *         dead letter
+	 * @throws IOException When a critical IO failure occurs while reading or
+	 *                     moving the dead letter
+	 */
+	private Set<String> withReplay(final @NonNull Path location) throws IOException {
+		final Set<String> keys = ConcurrentHashMap.newKeySet();
+		if (!Files.exists(location)) {
+			return keys;
+		}
+		try (JsonReader<JsonNode> reader = JsonHandler.streamContent(location.toFile(), new ObjectMapper())) {
+			reader.forEachRemaining((node) -> {
+				final JsonNode key = node.get("key");
+				if (key != null && !key.isNull()) {
+					keys.add(key.asText());
+				}
+			});
+		}
+		Files.move(location, Path.of(String.format(DEFAULT_REPLAYED_LOCATION, location)),
+				StandardCopyOption.REPLACE_EXISTING);
+		withMessage(String.format("Replaying %d dead lettered operands", keys.size()), Level.INFO);
+		return keys;
+	}
+
+	/**
+	 * Records an operand which exhausted its retries to the dead letter of this
+	 * `Task`, with its latest failure and when it was attempted.
+	 * 
+	 * @param operation Operation which exhausted its retries
+	 */
+	private void deadLetter(final @NonNull Operation<Consumes> operation) {
+		if (_deadLetter == null) {
+			return;
+		}
+		final Throwable failure = operation.getFailure();
+		final String error = failure != null
+				? String.format("%s: %s", failure.getClass().getSimpleName(), failure.getMessage())
+				: "Invalid result";
+		try {
+			_deadLetter.writeDocument(new DeadLetterDocument(
+					key(operation.getOperand()),
+					String.valueOf(operation.getOperand()),
+					error,
+					operation.getAttempts(),
+					operation.getCreated(),
+					operation.getAttempted()));
+		} catch (final IOException exception) {
+			_logger.warning(String.format("%s [%s] :: Failed to dead letter operand %s", getName(), getState(),
+					exception.getMessage()));
+		}
+	}
+
+	/**
+	 * Records a completed operand to the {@link Checkpoint checkpoint} of this
+	 * `Task`.
+	 * 
+	 * @param consumed Completed operand
+	 */
+	private void record(final @NonNull Consumes consumed) {
+		final String key = key(consumed);
+		if (key == null) {
+			return;
+		}
+		try {
+			_checkpoint.record(key);
+		} catch (final IOException exception) {
+			_logger.warning(String.format("%s [%s] :: Failed to checkpoint operand %s", getName(), getState(),
+					exception.getMessage()));
+		}
+	}
+
+	/**
+	 * Pushes a valid result into every {@link #withPipe(Task, int) pipe} of this
+	 * `Task`.
+	 * 
+	 * @param produced Result to push
+	 */
+	private void publish(final Produces produced) {
+		if (produced == null) {
+			return;
+		}
+		try {
+			for (final Pipe<Object> pipe : _pipes) {
+				pipe.push(produced);
+			}
+		} catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			_logger.warning(String.format("%s [%s] :: Interrupted while piping result", getName(), getState()));
+		}
+	}
+
+	/**
+	 * Modifies (safely) the current state of this `Task`, without locking. The
+	 * {@link #withTransition(State, State) transition} is retried until it is
+	 * applied, or until the current state no longer {@link State#precedes(State)
+	 * precedes} the new state.
 	 * 
 	 * @param state New state of task
-	 * @throws IllegalStateException When modifications are made to a
-	 *                               {@link State#FAILED failed} or
+	 * @throws IllegalStateException When the current state may not transition to
+	 *                               the new state, such as any modification made
+	 *                               to a {@link State#FAILED failed} or
 	 *                               {@link State#COMPLETED completed} Task
 	 */
-	protected synchronized void withState(final @NonNull State state) throws IllegalStateException {
-		final State currentState = _state.get();
-		if (currentState == State.FAILED || currentState == State.COMPLETED) {
-			throw new IllegalStateException(
-					String.format("%s [%s] :: Illegal State Modification", getName(), state.name()));
+	protected void withState(final @NonNull State state) throws IllegalStateException {
+		while (!withTransition(_state.get(), state)) {
+			Thread.onSpinWait();
+		}
+	}
+
+	/**
+	 * Attempts once to modify the current state of this `Task` from an expected
+	 * state, by comparing and setting it. Listeners are notified only once the
+	 * transition has been applied.
+	 * 
+	 * @param expected State this task is expected to currently be in
+	 * @param state    New state of task
+	 * @return True when applied, or false when the current state was not the
+	 *         expected state
+	 * @throws IllegalStateException When the expected state may not transition to
+	 *                               the new state
+	 */
+	protected boolean withTransition(final @NonNull State expected, final @NonNull State state)
+			throws IllegalStateException {
+		if (!expected.precedes(state)) {
+			throw new IllegalStateException(String.format("%s [%s] :: Illegal State Modification to %s",
+					getName(), expected.name(), state.name()));
 		}
-		if (state == State.COMPLETED || state == State.FAILED) {
+		if (!_state.compareAndSet(expected, state)) {
+			return false;
+		}
+		if (state.isTerminal()) {
 			_completable.complete(null);
 		}
-		this._state.set(state);
 		_logger.fine(String.format("%s [%s] :: State Update", getName(), state.name()));
+		_listeners.forEach(Runnable::run);
+		return true;
 	}
 
 	/**
@@ -305,7 +1677,7 @@ public abstract class Task<Consumes, Produces>
 	 * @param message Descriptive message of current operation of this Task
 	 * @param level   Level of logging to attribute to this message
 	 */
-	protected synchronized void withMessage(final @NonNull String message, final @NonNull Level level) {
+	protected void withMessage(final @NonNull String message, final @NonNull Level level) {
 		this.message = message;
 		_logger.log(level, String.format("%s [%s] :: %s", getName(), getState(), message));
 		_listeners.forEach(Runnable::run);
@@ -320,6 +1692,111 @@ public abstract class Task<Consumes, Produces>
 		return _name;
 	}
 
+	/**
+	 * Provides whether this `Task` persists its produced results to its
+	 * destination.
+	 * 
+	 * @return True unless configured as transient
+	 */
+	public boolean isPersistent() {
+		return _persistent;
+	}
+
+	/**
+	 * Provides the location this `Task` pushes its produced results to.
+	 * 
+	 * @return Destination location of this task
+	 */
+	public String getDestination() {
+		return _destination;
+	}
+
+	/**
+	 * Provides the layout this `Task` writes its produced results in.
+	 * 
+	 * @return Format of the destination of this task
+	 */
+	public JsonFormat getFormat() {
+		return _format;
+	}
+
+	/**
+	 * Provides when this `Task` commits its produced results and checkpointed
+	 * operands.
+	 * 
+	 * @return Group commit policy of this task
+	 */
+	public GroupCommit getCommit() {
+		return _commit;
+	}
+
+	/**
+	 * Provides the number of threads this `Task` parses a newline delimited
+	 * source with.
+	 * 
+	 * @return Number of source threads of this task
+	 */
+	public Integer getSourceThreads() {
+		return _sourceThreads;
+	}
+
+	/**
+	 * Provides whether this `Task` operates on a source parsed in parallel in the
+	 * order of the source.
+	 * 
+	 * @return True when source elements are yielded in order
+	 */
+	public boolean isOrdered() {
+		return _ordered;
+	}
+
+	/**
+	 * Provides whether this `Task` skips operands unchanged since any earlier
+	 * run, rather than only those completed by a run it resumes.
+	 * 
+	 * @return True when incremental
+	 */
+	public boolean isIncremental() {
+		return _incremental;
+	}
+
+	/**
+	 * Provides the identifier of this `Task`, which defaults to its name.
+	 * 
+	 * @return Identifier of this task
+	 */
+	public String getIdentifier() {
+		return _identifier;
+	}
+
+	/**
+	 * Provides the identifiers of tasks which must complete before this `Task`
+	 * runs.
+	 * 
+	 * @return Identifiers of prerequisite tasks
+	 */
+	public Collection<String> getPrerequisites() {
+		return _prerequisites;
+	}
+
+	/**
+	 * Provides the tasks which must complete before this `Task` runs.
+	 * 
+	 * @return Tasks this task depends upon
+	 */
+	public Collection<Task<?, ?>> getDependents() {
+		return List.copyOf(_dependents);
+	}
+
+	/**
+	 * Provides the tasks which may not run until this `Task` completes.
+	 * 
+	 * @return Tasks depending upon this task
+	 */
+	public Collection<Task<?, ?>> getDependencies() {
+		return List.copyOf(_dependencies);
+	}
+
 	/**
 	 * Provides the state of this `Task`.
 	 * 
@@ -348,12 +1825,53 @@ public abstract class Task<Consumes, Produces>
 	}
 
 	/**
-	 * Provides a formatted status of the this `Task` with the Name, State, and
-	 * {@link #update() Message}.
+	 * Provides the {@link Limiter limiter} of operands this `Task` operates on at
+	 * once.
+	 * 
+	 * @return Limiter of this task
+	 */
+	public Limiter getLimiter() {
+		return _limiter;
+	}
+
+	/**
+	 * Provides the throughput and latency {@link Metrics metrics} of this `Task`.
+	 * 
+	 * @return Metrics of this task
+	 */
+	public Metrics getMetrics() {
+		return _metrics;
+	}
+
+	/**
+	 * Provides a formatted status of the this `Task` with the Name, State,
+	 * {@link #update() Message}, {@link #getMetrics() Metrics}, and current
+	 * {@link #getLimiter() limit}.
 	 * 
 	 * @return Formatted status message
 	 */
 	public String getReport() {
-		return String.format("%s [%s] :: %s", getName(), getState(), message);
+		return String.format("%s [%s] :: %s\n\t%s | limit %d%s (%d in flight)", getName(), getState(), message,
+				_metrics, _limiter.getLimit(), _limiter.isAdaptive() ? " adaptive" : "", _limiter.getInFlight());
+	}
+
+	/**
+	 * An {@link Operation} prefetched into the window of this `Task`, ordered by
+	 * its {@link Priority rank} and then by the order it was pulled in.
+	 * 
+	 * @param operation Operation prefetched
+	 * @param rank      Rank of its operand
+	 * @param sequence  Number of operations prefetched before it
+	 */
+	private record Ranked<Consumes>(
+			Operation<Consumes> operation,
+			double rank,
+			long sequence) implements Comparable<Ranked<Consumes>> {
+
+		@Override
+		public int compareTo(final Ranked<Consumes> other) {
+			final int ranked = Double.compare(rank, other.rank);
+			return ranked != 0 ? ranked : Long.compare(sequence, other.sequence);
+		}
 	}
 }
@@ -0,0 +1,119 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+
+/**
+ *
+ * <h1>Workload</h1>
+ *
+ * <p>
+ * Classes of work which each run on their own pool of threads, so that one
+ * class of work can not starve another of threads: a slow agent holds only
+ * agent threads, while pages are still fetched and documents still parsed.
+ * </p>
+ *
+ * <p>
+ * A {@link Task} declares which Workload each of its stages runs on with
+ * {@link Task#withWorkload(State, Workload)}, and may run any other call on a
+ * Workload with {@link #call(Supplier)}. The Workload of the collecting stage
+ * also pulls each operand ahead of dispatch. Without a pool, a Workload runs
+ * its calls on the calling thread.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+public enum Workload {
+	/**
+	 * Network bound work, such as retrieving pages.
+	 */
+	FETCH,
+
+	/**
+	 * Requests to an agent, which may take far longer than any other work.
+	 */
+	AGENT,
+
+	/**
+	 * CPU bound work, such as parsing and serializing documents.
+	 */
+	PARSE,
+
+	/**
+	 * Driving each Task through its states, and dispatching its operands.
+	 */
+	COORDINATION;
+
+	static Map<Workload, ExecutorService> _pools = new ConcurrentHashMap<>();
+	static ThreadLocal<Workload> _current = new ThreadLocal<>();
+
+	/**
+	 * Modifies the pool this Workload runs its calls on.
+	 *
+	 * @param pool Pool of threads to run calls on
+	 */
+	public void withPool(final @NonNull ExecutorService pool) {
+		_pools.put(this, pool);
+	}
+
+	/**
+	 * Provides the pool this Workload runs its calls on.
+	 *
+	 * @return Pool of threads, or null when calls run on the calling thread
+	 */
+	public ExecutorService getPool() {
+		return _pools.get(this);
+	}
+
+	/**
+	 * Runs a call on the pool of this Workload, and waits for its result. The
+	 * {@link Deadline} of the calling thread, if any, is visible to the call.
+	 * When already on a thread of this Workload, or when this Workload has no
+	 * pool, the call runs on the calling thread instead.
+	 *
+	 * @param <Result> Type of result of the call
+	 * @param call     Call to run
+	 * @return Result of the call
+	 * @throws CancellationException When interrupted while waiting, in which case
+	 *                               the call is interrupted as well
+	 */
+	public <Result> Result call(final @NonNull Supplier<Result> call) throws CancellationException {
+		final ExecutorService pool = _pools.get(this);
+		if (pool == null || _current.get() == this) {
+			return call.get();
+		}
+		final Deadline deadline = Deadline.current();
+		final Future<Result> future = pool.submit(() -> {
+			_current.set(this);
+			try {
+				return Deadline.within(deadline, call);
+			} finally {
+				_current.remove();
+			}
+		});
+		try {
+			return future.get();
+		} catch (final InterruptedException exception) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new CancellationException(String.format("%s call was interrupted", name()));
+		} catch (final ExecutionException exception) {
+			final Throwable cause = exception.getCause();
+			if (cause instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new CompletionException(cause);
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.github.jelatinone.scholarfind.models;
+
+import java.time.Instant;
+
+public record DeadLetterDocument(
+		String key,
+		String operand,
+		String error,
+		int attempts,
+		Instant firstAttempt,
+		Instant lastAttempt) {
+}
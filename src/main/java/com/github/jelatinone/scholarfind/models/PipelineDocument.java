@@ -0,0 +1,21 @@
+package com.github.jelatinone.scholarfind.models;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public record PipelineDocument(
+		Integer pipeCapacity,
+		List<StageDocument> stages) {
+
+	public static record StageDocument(
+			String id,
+			String task,
+			List<String> inputs,
+			List<String> after,
+			Integer pipeCapacity,
+			Map<String, JsonNode> options,
+			Map<String, String> workloads) {
+	}
+}
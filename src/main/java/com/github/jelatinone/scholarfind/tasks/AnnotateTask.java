@@ -2,12 +2,19 @@ package com.github.jelatinone.scholarfind.tasks;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
-import java.time.LocalDate;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -24,12 +31,16 @@ import org.htmlunit.html.HtmlPage;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.github.jelatinone.scholarfind.agent.AgentHandler;
 import com.github.jelatinone.scholarfind.json.JsonHandler;
+import com.github.jelatinone.scholarfind.json.JsonReader;
 import com.github.jelatinone.scholarfind.json.JsonSerializer;
+import com.github.jelatinone.scholarfind.meta.Deadline;
+import com.github.jelatinone.scholarfind.meta.Priority;
+import com.github.jelatinone.scholarfind.meta.Source;
 import com.github.jelatinone.scholarfind.meta.State;
 import com.github.jelatinone.scholarfind.meta.Task;
+import com.github.jelatinone.scholarfind.meta.Workload;
 import com.github.jelatinone.scholarfind.models.AgentType;
 import com.github.jelatinone.scholarfind.models.AnnotateDocument;
 import com.github.jelatinone.scholarfind.models.AnnotateDocument.AnnotateStub;
@@ -126,8 +137,10 @@ public final class AnnotateTask extends Task<URL, AnnotateDocument> {
 		generator.writeEndObject();
 	};
 
-	@NonFinal
-	WebClient client;
+	Queue<WebClient> clients = new ConcurrentLinkedQueue<>();
+	Map<String, String> fingerprints = new ConcurrentHashMap<>();
+	Set<String> unchanged = ConcurrentHashMap.newKeySet();
+
 	@NonFinal
 	JsonHandler<AnnotateDocument> handler;
 	@NonFinal
@@ -162,6 +175,17 @@ public final class AnnotateTask extends Task<URL, AnnotateDocument> {
 				.converter((value) -> AgentType.valueOf(value.toUpperCase()))
 				.get();
 		_config.addOption(opt_agentType);
+		Option opt_operandPriority = Option.builder()
+				.longOpt("priority")
+				.hasArg()
+				.valueSeparator('=')
+				.desc("order to operate on operands in, `host` to take turns between hosts with the fewest requests pending first")
+				.converter((value) -> switch (value.toLowerCase()) {
+					case "host" -> hostPriority();
+					default -> throw new IllegalArgumentException(String.format("Invalid priority : %s", value));
+				})
+				.get();
+		_config.addOption(opt_operandPriority);
 	}
 
 	public AnnotateTask(final @NonNull String... arguments) {
@@ -169,18 +193,18 @@ public final class AnnotateTask extends Task<URL, AnnotateDocument> {
 		withMessage("Initialization started", Level.INFO);
 		try {
 			CommandLine command = _parser.parse(_config, arguments);
+			withConfiguration(command);
 			String sourceTarget = command.getOptionValue("from");
 			source = sourceTarget;
 
-			String destinationTarget = command.getOptionValue("to");
-			destination = destinationTarget != null ? destinationTarget
-					: String.format(DEFAULT_DESTINATION_LOCATION, getName(), LocalDate
-							.now()
-							.toString());
+			destination = getDestination();
 
 			Integer networkTimeout = command.getParsedOptionValue("timeout");
 			timeout = networkTimeout != null ? networkTimeout : DEFAULT_NETWORK_TIMEOUT;
 
+			Priority<URL> priority = command.getParsedOptionValue("priority");
+			withPriority(priority);
+
 			AgentType agentType = command.getParsedOptionValue("agent");
 			if (agentType == null) {
 				String message = "Initialization failed : Failed to retrieve agent type";
@@ -191,10 +215,7 @@ public final class AnnotateTask extends Task<URL, AnnotateDocument> {
 			type = agentType;
 			agent = type.acquire(DEFAULT_AGENT_PROMPT, AnnotateStub.class);
 
-			client = new WebClient(BrowserVersion.BEST_SUPPORTED);
-			handler = JsonHandler.acquireWriter(destination, _serializer);
-
-			configureClient();
+			handler = isPersistent() ? JsonHandler.acquireWriter(destination, _serializer, getFormat(), getCommit()) : null;
 		} catch (final ParseException exception) {
 			String message = String.format("Initialization failed : Failed to parse arguments %s",
 					exception.getMessage());
@@ -211,43 +232,117 @@ public final class AnnotateTask extends Task<URL, AnnotateDocument> {
 		withMessage("Initialization complete", Level.INFO);
 	}
 
-	protected synchronized List<URL> collect() {
+	/**
+	 * Creates a {@link Priority} which ranks each operand by the number of
+	 * operands of the same host still pending when it is pulled, so that
+	 * requests take turns between hosts rather than arriving at one host in a
+	 * burst. An operand is pending from when it is pulled until it completes or
+	 * fails for good, including while it awaits a retry.
+	 * 
+	 * @return Priority by host
+	 */
+	static Priority<URL> hostPriority() {
+		final Map<String, Integer> pending = new ConcurrentHashMap<>();
+		return new Priority<>() {
+			@Override
+			public double rank(final @NonNull URL operand) {
+				return pending.merge(operand.getHost().toLowerCase(), 1, Integer::sum);
+			}
+
+			@Override
+			public void release(final @NonNull URL operand) {
+				pending.computeIfPresent(operand.getHost().toLowerCase(),
+						(host, count) -> count > 1 ? count - 1 : null);
+			}
+		};
+	}
+
+	protected Source<URL> collect() {
 		withMessage("Collection started", Level.INFO);
+		if (source == null) {
+			withMessage("Collection failed : No source provided", Level.SEVERE);
+			withState(State.FAILED);
+			return Source.of(List.of());
+		}
 
 		File file = new File(source);
 		ObjectMapper mapper = new ObjectMapper();
 
-		List<URL> items = new ArrayList<>();
 		try {
+			JsonReader<JsonNode> reader = JsonHandler.streamContent(file, mapper, JsonNode.class,
+					getSourceThreads(), isOrdered());
 			withMessage("Collection acquired", Level.INFO);
-			ArrayNode results = JsonHandler.acquireContent(file, mapper);
-			for (final JsonNode entry : results) {
-				ArrayNode retrieved = (ArrayNode) entry.get("retrieved");
-				retrieved.forEach((data) -> {
-					String text = data.textValue();
-					try {
-						URL url = URI.create(text).toURL();
-						items.add(url);
-
-						String message = String.format("Added valid URL : %s", text);
-						withMessage(message, Level.SEVERE);						
-					} catch (final MalformedURLException | IllegalArgumentException exception) {
-						String message = String.format("Skipped malformed URL : %s", text);
-						withMessage(message, Level.SEVERE);
-					}
-				});
-			}
-			withMessage(String.format("Found %d URLs", items.size()), Level.INFO);
+			return Source.of(reader, reader)
+					.flatMap(this::retrieve);
 		} catch (final IOException exception) {
 			String message = String.format("Failed to retrieve source content: %s", source);
 			withMessage(message, Level.SEVERE);
 			withState(State.FAILED);
 		}
-		withMessage("Collection complete", Level.INFO);
-		return items;
+		return Source.of(List.of());
+	}
+
+	/**
+	 * Retrieves every valid URL of a single search document entry.
+	 * 
+	 * @param entry Search document entry to retrieve URLs from
+	 * @return Iterator of valid URLs within the entry
+	 */
+	private Iterator<URL> retrieve(final @NonNull JsonNode entry) {
+		List<URL> items = new ArrayList<>();
+		JsonNode retrieved = entry.get("retrieved");
+		if (retrieved == null || !retrieved.isArray()) {
+			return items.iterator();
+		}
+		retrieved.forEach((data) -> {
+			String text = data.textValue();
+			try {
+				URL url = URI.create(text).toURL();
+				items.add(url);
+
+				String message = String.format("Added valid URL : %s", text);
+				withMessage(message, Level.SEVERE);
+			} catch (final MalformedURLException | IllegalArgumentException exception) {
+				String message = String.format("Skipped malformed URL : %s", text);
+				withMessage(message, Level.SEVERE);
+			}
+		});
+		return items.iterator();
+	}
+
+	/**
+	 * Acquires an idle web client, creating a new one when every client is in
+	 * use by another operand.
+	 * 
+	 * @return Configured web client which must be {@link #releaseClient(WebClient)
+	 *         released} after use
+	 */
+	private WebClient acquireClient() {
+		final WebClient client = clients.poll();
+		return client != null ? client : createClient();
+	}
+
+	/**
+	 * Returns a web client to the idle clients of this task.
+	 * 
+	 * @param client Client to return
+	 */
+	private void releaseClient(final @NonNull WebClient client) {
+		clients.offer(client);
+	}
+
+	/**
+	 * Closes every idle web client of this task.
+	 */
+	private void closeClients() {
+		WebClient client;
+		while ((client = clients.poll()) != null) {
+			client.close();
+		}
 	}
 
-	private void configureClient() {
+	private WebClient createClient() {
+		final WebClient client = new WebClient(BrowserVersion.BEST_SUPPORTED);
 		client
 				.getOptions()
 				.setDownloadImages(false);
@@ -269,15 +364,18 @@ public final class AnnotateTask extends Task<URL, AnnotateDocument> {
 		client
 				.getOptions()
 				.setThrowExceptionOnFailingStatusCode(true);
+		return client;
 	}
 
 	@Override
-	public synchronized void close() throws IOException {
+	public void close() throws IOException {
 		withMessage("Closing resources", Level.INFO);
 		try {
-			client.close();
+			closeClients();
 			agent.close();
-			handler.close();
+			if (handler != null) {
+				handler.close();
+			}
 		} catch (final IOException exception) {
 			String message = "Closing resources failed";
 			withMessage(message, Level.SEVERE);
@@ -287,49 +385,124 @@ public final class AnnotateTask extends Task<URL, AnnotateDocument> {
 	}
 
 	@Override
-	protected synchronized AnnotateDocument operate(final @NonNull URL operand) {
+	protected AnnotateDocument operate(final @NonNull URL operand) {
 		String urlString = operand.toString();
+		final WebClient client = acquireClient();
 		try {
 
 			withMessage(String.format("Retrieving page content : %s", urlString), Level.INFO);
-			final HtmlPage pageContent = client
-					.<HtmlPage>getPage(operand);
+			final HtmlPage pageContent = Workload.FETCH.call(() -> {
+				client
+						.getOptions()
+						.setTimeout((int) Math.max(1, Deadline.remaining(Duration.ofMillis(timeout)).toMillis()));
+				try {
+					return client
+							.<HtmlPage>getPage(operand);
+				} catch (final IOException exception) {
+					String message = String.format("Failed to retrieve content from URL : %s", urlString);
+					withMessage(message, Level.SEVERE);
+					throw new UncheckedIOException(message, exception);
+				}
+			});
+
+			String text = pageContent.getVisibleText();
+			String content = isIncremental() ? fingerprint(text) : null;
+			if (content != null && recorded(key(urlString, content))) {
+				withMessage(String.format("Skipped unchanged content : %s", urlString), Level.INFO);
+				fingerprints.put(urlString, content);
+				unchanged.add(urlString);
+				return null;
+			}
 
 			withMessage(String.format("Annotating content : %s", urlString), Level.INFO);
 			AnnotateDocument document;
 			try {
-				String text = pageContent.getVisibleText();
-				AnnotateStub stub = agent.annotate(text);
-				document = new AnnotateDocument(operand, stub);
-			} catch (final Exception exception) {
-				document = null;
+				AnnotateStub stub = Workload.AGENT.call(() -> agent.annotate(text,
+						Deadline.remaining(Duration.ofMillis(DEFAULT_AGENT_TIMEOUT))));
+				document = stub != null ? new AnnotateDocument(operand, stub) : null;
+			} catch (final RuntimeException exception) {
 				String message = String.format("Agent failed to annotate document : %s", exception.getMessage());
 				withMessage(message, Level.SEVERE);
+				throw exception;
 			}
 			if (document == null) {
 				String message = String.format("Agent failed to create document : %s", operand.toString());
 				withMessage(message, Level.SEVERE);
+			} else if (content != null) {
+				fingerprints.put(urlString, content);
 			}
 			return document;
 		} catch (final FailingHttpStatusCodeException exception) {
 			String message = String.format("Failing status code returned URL : %s", urlString);
 			withMessage(message, Level.SEVERE);
-		} catch (final IOException exception) {
-			String message = String.format("Failed to retrieve content from URL : %s", urlString);
-			withMessage(message, Level.SEVERE);
+			throw exception;
+		} finally {
+			releaseClient(client);
+		}
+	}
+
+	@Override
+	protected boolean retryable(final @NonNull Throwable failure) {
+		if (failure instanceof FailingHttpStatusCodeException exception) {
+			int status = exception.getStatusCode();
+			return status >= 500 || status == 408 || status == 425 || status == 429;
+		}
+		return true;
+	}
+
+	@Override
+	protected boolean overloaded(final @NonNull Throwable failure) {
+		if (failure instanceof FailingHttpStatusCodeException exception) {
+			int status = exception.getStatusCode();
+			return status == 429 || status == 503;
 		}
-		return null;
+		return super.overloaded(failure) || (agent != null && agent.overloaded(failure));
+	}
+
+	/**
+	 * Keys an operand by its URL, and when incremental, also by a fingerprint of
+	 * its content once retrieved, so that a page whose content changed since an
+	 * earlier run is annotated again while an unchanged page is not.
+	 */
+	@Override
+	protected String key(final @NonNull URL operand) {
+		final String url = operand.toString();
+		final String content = fingerprints.get(url);
+		return content != null ? key(url, content) : url;
+	}
+
+	/**
+	 * Provides the key of a page retrieved with given content.
+	 * 
+	 * @param url     URL of the page
+	 * @param content Fingerprint of the visible text of the page
+	 * @return Key of the page and its content
+	 */
+	private static String key(final @NonNull String url, final @NonNull String content) {
+		return String.format("%s#%s", url, content);
 	}
 
 	@Override
-	protected synchronized boolean result(final AnnotateDocument operand) {
-		if (operand != null) {
+	protected URL adapt(final @NonNull Object produced) {
+		return produced instanceof URL url ? url : null;
+	}
+
+	@Override
+	protected boolean result(final @NonNull URL operand, final AnnotateDocument produced) {
+		if (produced == null && unchanged.remove(operand.toString())) {
+			return true;
+		}
+		if (produced != null) {
+			if (handler == null) {
+				return true;
+			}
 			try {
-				handler.writeDocument(operand);
+				handler.writeDocument(produced);
 				return true;
 			} catch (final IOException exception) {
 				String message = String.format("Failed to write annotate document : %s", exception.getMessage());
 				withMessage(message, Level.SEVERE);
+				fingerprints.remove(operand.toString());
 				return false;
 			}
 		}
@@ -339,18 +512,25 @@ public final class AnnotateTask extends Task<URL, AnnotateDocument> {
 	}
 
 	@Override
-	protected synchronized void restart() throws IOException {
+	protected void commit() throws IOException {
+		if (handler != null) {
+			handler.commit();
+		}
+	}
+
+	@Override
+	protected void restart() throws IOException {
 		withMessage("Restarting resources", Level.INFO);
 		try {
-			client.close();
-			client = new WebClient(BrowserVersion.BEST_SUPPORTED);
-			configureClient();
+			closeClients();
 
 			agent.close();
 			agent = type.acquire(DEFAULT_AGENT_PROMPT, AnnotateStub.class);
 
-			handler.close();
-			handler = JsonHandler.acquireWriter(destination, _serializer);
+			if (handler != null) {
+				handler.close();
+				handler = JsonHandler.acquireWriter(destination, _serializer, getFormat(), getCommit());
+			}
 		} catch (final IOException exception) {
 			String message = "Restarting resources safely failed";
 			withMessage(message, Level.SEVERE);
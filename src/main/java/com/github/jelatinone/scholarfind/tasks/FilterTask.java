@@ -4,8 +4,9 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
@@ -20,12 +21,17 @@ import org.apache.commons.cli.ParseException;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.github.jelatinone.scholarfind.agent.AgentHandler;
 import com.github.jelatinone.scholarfind.json.JsonHandler;
+import com.github.jelatinone.scholarfind.json.JsonReader;
 import com.github.jelatinone.scholarfind.json.JsonSerializer;
+import com.github.jelatinone.scholarfind.meta.Deadline;
+import com.github.jelatinone.scholarfind.meta.Priority;
+import com.github.jelatinone.scholarfind.meta.Source;
 import com.github.jelatinone.scholarfind.meta.State;
 import com.github.jelatinone.scholarfind.meta.Task;
+import com.github.jelatinone.scholarfind.meta.Workload;
 import com.github.jelatinone.scholarfind.models.AnnotateDocument;
 import com.github.jelatinone.scholarfind.models.BooleanDocument;
 import com.github.jelatinone.scholarfind.models.AnnotateDocument.AnnotateStub;
@@ -106,6 +112,21 @@ public class FilterTask extends Task<JsonNode, BooleanDocument> {
     static Options _config = new Options();
     static Logger _logger = Logger.getLogger(AnnotateTask.class.getName());
     static CommandLineParser _parser = new DefaultParser();
+    static ObjectMapper _mapper = new ObjectMapper();
+    static Priority<JsonNode> CLOSE_PRIORITY = (operand) -> {
+        JsonNode close = operand.get("close");
+        try {
+            return close != null && close.isTextual()
+                ? LocalDate.parse(close.textValue()).toEpochDay()
+                : Double.MAX_VALUE;
+        } catch (final DateTimeParseException exception) {
+            return Double.MAX_VALUE;
+        }
+    };
+    static Priority<JsonNode> AWARD_PRIORITY = (operand) -> {
+        JsonNode award = operand.get("award");
+        return award != null && award.isNumber() ? -award.doubleValue() : Double.MAX_VALUE;
+    };
     static JsonSerializer<AnnotateDocument> _serializer = (generator, document) -> {
         final AnnotateStub stub = document.stub();
 
@@ -190,6 +211,18 @@ public class FilterTask extends Task<JsonNode, BooleanDocument> {
 				.desc("location to pull profile source data from > ~2GB")
 				.get();
 		_config.addOption(opt_profileTarget);
+        Option opt_operandPriority = Option.builder()
+                .longOpt("priority")
+                .hasArg()
+                .valueSeparator('=')
+                .desc("order to operate on operands in, either `close` for the nearest closing date first or `award` for the highest award first")
+                .converter((value) -> switch (value.toLowerCase()) {
+                    case "close" -> CLOSE_PRIORITY;
+                    case "award" -> AWARD_PRIORITY;
+                    default -> throw new IllegalArgumentException(String.format("Invalid priority : %s", value));
+                })
+                .get();
+        _config.addOption(opt_operandPriority);
     }
 
     public FilterTask(final @NonNull String... arguments) {
@@ -197,14 +230,14 @@ public class FilterTask extends Task<JsonNode, BooleanDocument> {
         withMessage("Initialization started", Level.INFO);
         try {
             CommandLine command = _parser.parse(_config, arguments);
+            withConfiguration(command);
             String sourceTarget = command.getOptionValue("from");
             source = sourceTarget;
 
-            String destinationTarget = command.getOptionValue("to");
-            destination = destinationTarget != null ? destinationTarget
-                    : String.format(DEFAULT_DESTINATION_LOCATION, getName(), LocalDate
-                            .now()
-                            .toString());
+            destination = getDestination();
+
+            Priority<JsonNode> priority = command.getParsedOptionValue("priority");
+            withPriority(priority);
 
             String profileTarget = command.getOptionValue("profile");
             if(profileTarget == null) {
@@ -226,7 +259,7 @@ public class FilterTask extends Task<JsonNode, BooleanDocument> {
             String profileContent = Files.readString(Path.of(profileTarget));
             agent = type.acquire(String.format(DEFAULT_AGENT_PROMPT, profileContent), BooleanDocument.class);
 
-            handler = JsonHandler.acquireWriter(destination, _serializer);
+            handler = isPersistent() ? JsonHandler.acquireWriter(destination, _serializer, getFormat(), getCommit()) : null;
         } catch (final ParseException exception) {
             String message = String.format("Initialization failed : Failed to parse arguments %s",
                     exception.getMessage());
@@ -243,33 +276,38 @@ public class FilterTask extends Task<JsonNode, BooleanDocument> {
         withMessage("Initialization complete", Level.INFO);
     }
 
-    protected synchronized List<JsonNode> collect() {
+    protected Source<JsonNode> collect() {
         withMessage("Collection started", Level.INFO);
+        if (source == null) {
+            withMessage("Collection failed : No source provided", Level.SEVERE);
+            withState(State.FAILED);
+            return Source.of(List.of());
+        }
 
         File file = new File(source);
         ObjectMapper mapper = new ObjectMapper();
 
-        List<JsonNode> items = new ArrayList<>();
         try {
+            JsonReader<JsonNode> reader = JsonHandler.streamContent(file, mapper, JsonNode.class,
+                    getSourceThreads(), isOrdered());
             withMessage("Collection acquired", Level.INFO);
-            ArrayNode results = JsonHandler.acquireContent(file, mapper);
-            results.forEach(items::add);
-            withMessage(String.format("Found %d Items", items.size()), Level.INFO);
+            return Source.of(reader, reader);
         } catch (final IOException exception) {
             String message = String.format("Failed to retrieve source content: %s", source);
             withMessage(message, Level.SEVERE);
             withState(State.FAILED);
         }
-        withMessage("Collection complete", Level.INFO);
-        return items;
+        return Source.of(List.of());
     }
 
     @Override
-    public synchronized void close() throws IOException {
+    public void close() throws IOException {
         withMessage("Closing resources", Level.INFO);
         try {
             agent.close();
-            handler.close();
+            if (handler != null) {
+                handler.close();
+            }
         } catch (final IOException exception) {
             String message = "Closing resources failed";
             withMessage(message, Level.SEVERE);
@@ -279,24 +317,15 @@ public class FilterTask extends Task<JsonNode, BooleanDocument> {
     }
 
     @Override
-    protected synchronized BooleanDocument operate(final @NonNull JsonNode operand) {
+    protected BooleanDocument operate(final @NonNull JsonNode operand) {
         withMessage("Filtering operand", Level.INFO);
 
-        LocalDate now = LocalDate.now();
-
-        LocalDate open = Optional.of(operand.get("open"))
-            .map(JsonNode::asText)
-            .map(LocalDate::parse)
-            .orElse(LocalDate.MIN);
-        LocalDate close = Optional.of(operand.get("close"))
-            .map(JsonNode::asText)
-            .map(LocalDate::parse)
-            .orElse(LocalDate.MAX);
+        boolean accepting = isOpen(operand, LocalDate.now());
         String name = Optional.of(operand.get("name"))
             .map(JsonNode::asText)
             .get();
 
-        if (now.isBefore(open) || now.isAfter(close)) {
+        if (!accepting) {
             String message = String.format("Filter skipped document : %s", name);
             withMessage(message, Level.INFO);
             return new BooleanDocument(false);
@@ -306,7 +335,8 @@ public class FilterTask extends Task<JsonNode, BooleanDocument> {
 
         String scholarshipJson = operand.toString();
         String agentJson = String.format(DEFAULT_AGENT_TEXT, scholarshipJson);
-        BooleanDocument annotation = agent.annotate(agentJson);
+        BooleanDocument annotation = Workload.AGENT.call(() -> agent.annotate(agentJson,
+                Deadline.remaining(Duration.ofMillis(DEFAULT_AGENT_TIMEOUT))));
 
         if(annotation == null) {
             String message = String.format("Agent failed to create document : %s", name);
@@ -316,14 +346,65 @@ public class FilterTask extends Task<JsonNode, BooleanDocument> {
         return annotation;
     }
 
+    /**
+     * Provides whether an operand accepts applications on a given day, without
+     * consulting the agent.
+     *
+     * @param operand Operand to check
+     * @param now     Day to check against
+     * @return True when the day falls between the open and close dates of the
+     *         operand
+     */
+    static boolean isOpen(final @NonNull JsonNode operand, final @NonNull LocalDate now) {
+        LocalDate open = Optional.of(operand.get("open"))
+            .map(JsonNode::asText)
+            .map(LocalDate::parse)
+            .orElse(LocalDate.MIN);
+        LocalDate close = Optional.of(operand.get("close"))
+            .map(JsonNode::asText)
+            .map(LocalDate::parse)
+            .orElse(LocalDate.MAX);
+        return !now.isBefore(open) && !now.isAfter(close);
+    }
+
+    @Override
+    protected boolean overloaded(final @NonNull Throwable failure) {
+        return super.overloaded(failure) || (agent != null && agent.overloaded(failure));
+    }
+
+    @Override
+    protected String key(final @NonNull JsonNode operand) {
+        JsonNode url = operand.get("url");
+        return url != null && url.isTextual()
+                ? String.format("%s#%s", url.textValue(), fingerprint(operand.toString()))
+                : operand.toString();
+    }
+
     @Override
-    protected synchronized boolean result(final BooleanDocument operand) {
-        Boolean annotation = operand !=  null? operand.value(): type == AgentType.NONE;
-        JsonNode node = getConsumed();
-        if(node == null) {
-            String message = "Failed to write annotate document: operand was null";
+    protected JsonNode adapt(final @NonNull Object produced) {
+        if (produced instanceof JsonNode node) {
+            return node;
+        }
+        if (!(produced instanceof AnnotateDocument document)) {
+            return null;
+        }
+        try {
+            TokenBuffer buffer = new TokenBuffer(_mapper, false);
+            _serializer.write(buffer, document);
+            return _mapper.readTree(buffer.asParser());
+        } catch (final IOException exception) {
+            String message = String.format("Failed to adapt piped document : %s", exception.getMessage());
             withMessage(message, Level.SEVERE);
-            return false;            
+            return null;
+        }
+    }
+
+    @Override
+    protected boolean result(final @NonNull JsonNode operand, final BooleanDocument produced) {
+        Boolean annotation = produced !=  null? produced.value(): type == AgentType.NONE;
+        JsonNode node = operand;
+        if(annotation && handler == null) {
+            return true;
         }
         if(annotation) {
             try {
@@ -343,14 +424,23 @@ public class FilterTask extends Task<JsonNode, BooleanDocument> {
     }
 
 	@Override
-	protected synchronized void restart() throws IOException {
+	protected void commit() throws IOException {
+		if (handler != null) {
+			handler.commit();
+		}
+	}
+
+	@Override
+	protected void restart() throws IOException {
 		withMessage("Restarting resources", Level.INFO);
 		try {
 			agent.close();
 			agent = type.acquire(DEFAULT_AGENT_PROMPT, BooleanDocument.class);
 
-			handler.close();
-			handler = JsonHandler.acquireWriter(destination, _serializer);
+			if (handler != null) {
+				handler.close();
+				handler = JsonHandler.acquireWriter(destination, _serializer, getFormat(), getCommit());
+			}
 		} catch (final IOException exception) {
 			String message = "Restarting resources safely failed";
 			withMessage(message, Level.SEVERE);
@@ -2,6 +2,7 @@ package com.github.jelatinone.scholarfind.tasks;
 
 import com.github.jelatinone.scholarfind.json.JsonHandler;
 import com.github.jelatinone.scholarfind.json.JsonSerializer;
+import com.github.jelatinone.scholarfind.meta.Source;
 import com.github.jelatinone.scholarfind.meta.State;
 import com.github.jelatinone.scholarfind.meta.Task;
 import com.github.jelatinone.scholarfind.models.SearchDocument;
@@ -19,6 +20,8 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -71,11 +74,13 @@ public final class SearchTask extends Task<DomNode, URL> {
 		generator.writeEndObject();
 	};
 
-	List<URL> retrieved = new ArrayList<>();
+	Queue<URL> retrieved = new ConcurrentLinkedQueue<>();
 
 	@NonFinal
 	JsonHandler<SearchDocument> handler;
 	@NonFinal
+	Boolean written = false;
+	@NonFinal
 	HtmlPage pageContent;
 
 	@NonFinal
@@ -108,19 +113,22 @@ public final class SearchTask extends Task<DomNode, URL> {
 		withMessage("Initialization started", Level.INFO);
 		try {
 			CommandLine command = _parser.parse(_config, arguments);
+			withConfiguration(command);
 			String sourceTarget = command.getOptionValue("from");
+			if (sourceTarget == null) {
+				withState(State.FAILED);
+				String message = "Initialization failed : Failed to retrieve source";
+				withMessage(message, Level.SEVERE);
+				return;
+			}
 			source = sourceTarget;
 
-			String destinationTarget = command.getOptionValue("to");
-			destination = destinationTarget != null ? destinationTarget
-					: String.format(DEFAULT_DESTINATION_LOCATION, getName(), LocalDate
-							.now()
-							.toString());
+			destination = getDestination();
 
 			Integer networkTimeout = command.getParsedOptionValue("timeout");
 			timeout = networkTimeout != null ? networkTimeout : DEFAULT_NETWORK_TIMEOUT;
 
-			handler = JsonHandler.acquireWriter(destination, _serializer);
+			handler = isPersistent() ? JsonHandler.acquireWriter(destination, _serializer, getFormat(), getCommit()) : null;
 		} catch (final ParseException exception) {
 			withState(State.FAILED);
 			String message = String.format("Initialization failed : Failed to parse arguments %s",
@@ -137,7 +145,7 @@ public final class SearchTask extends Task<DomNode, URL> {
 		withMessage("Initialization complete", Level.INFO);
 	}
 
-	protected synchronized List<DomNode> collect() {
+	protected Source<DomNode> collect() {
 		withMessage("Collection started", Level.INFO);
 		try (WebClient Client = new WebClient(BrowserVersion.BEST_SUPPORTED)) {
 			withMessage("Collection configuring", Level.INFO);
@@ -170,31 +178,24 @@ public final class SearchTask extends Task<DomNode, URL> {
 					.toList();
 
 			withMessage(String.format("Found %d anchors", pageAnchors.size()), Level.INFO);
-			return pageAnchors;
+			return Source.of(pageAnchors);
 		} catch (final IOException exception) {
 			String message = String.format("Failed to retrieve source content : %s", source);
 			withMessage(message, Level.SEVERE);
 			withState(State.FAILED);
-			return List.of();
+			return Source.of(List.of());
 		}
 	}
 
 	@Override
-	public synchronized void close() throws IOException {
+	public void close() throws IOException {
 		withMessage("Closing resources", Level.INFO);
-		final String date = LocalDate
-				.now()
-				.toString();
-		final String time = LocalTime
-				.now()
-				.toString();
+		if (handler == null) {
+			withMessage("Close resources safely completed", Level.INFO);
+			return;
+		}
 		try {
-			final SearchDocument document = new SearchDocument(
-					source,
-					date,
-					time,
-					List.copyOf(retrieved));
-			handler.writeDocument(document);
+			write();
 		} catch (final IOException exception) {
 			String message = String.format("Failed to write search document : %s", source);
 			withMessage(message, Level.SEVERE);
@@ -213,7 +214,7 @@ public final class SearchTask extends Task<DomNode, URL> {
 	}
 
 	@Override
-	protected synchronized URL operate(final @NonNull DomNode operand) {
+	protected URL operate(final @NonNull DomNode operand) {
 		Node hrefNode = operand.getAttributes().getNamedItem("href");
 		String hrefAttribute = hrefNode != null ? hrefNode.getTextContent() : null;
 		if (hrefAttribute == null) {
@@ -231,22 +232,88 @@ public final class SearchTask extends Task<DomNode, URL> {
 		}
 	}
 
+	/**
+	 * Keys an anchor by the URL it links to and a fingerprint of its text, so
+	 * that an incremental search yields only anchors which are new or whose text
+	 * changed since an earlier run. An incremental annotate detects changes to
+	 * the pages themselves only for URLs a search yields, so a search which
+	 * should revisit every page is run without `--incremental`.
+	 */
+	@Override
+	protected String key(final @NonNull DomNode operand) {
+		Node hrefNode = operand.getAttributes().getNamedItem("href");
+		if (hrefNode == null) {
+			return null;
+		}
+		String hrefAttribute = hrefNode.getTextContent();
+		try {
+			hrefAttribute = pageContent.getFullyQualifiedUrl(hrefAttribute).toString();
+		} catch (final MalformedURLException exception) {
+			// Keyed by the attribute as written, and skipped when operated on
+		}
+		return String.format("%s#%s", hrefAttribute, fingerprint(operand.getTextContent()));
+	}
+
 	@Override
-	protected synchronized boolean result(URL operand) {
-		if (operand != null) {
-			withMessage(String.format("Queued result : %s", operand), Level.INFO);
-			return retrieved.add(operand);
+	protected boolean result(final @NonNull DomNode operand, final URL produced) {
+		if (produced != null) {
+			withMessage(String.format("Queued result : %s", produced), Level.INFO);
+			return retrieved.add(produced);
 		}
 		return false;
 	}
 
 	@Override
-	protected synchronized void restart() throws IOException {
+	protected void commit() throws IOException {
+		if (handler != null) {
+			write();
+			handler.commit();
+		}
+	}
+
+	/**
+	 * Writes every result queued since the last write as one search document, so
+	 * that results are written before the anchors which produced them are
+	 * {@link #commit() committed} to the checkpoint. A search which retrieved
+	 * nothing still writes a single empty document.
+	 * 
+	 * @throws IOException When a critical IO failure occurs while writing
+	 */
+	private synchronized void write() throws IOException {
+		final List<URL> queued = new ArrayList<>();
+		for (URL url = retrieved.poll(); url != null; url = retrieved.poll()) {
+			queued.add(url);
+		}
+		if (queued.isEmpty() && written) {
+			return;
+		}
+		final String date = LocalDate
+				.now()
+				.toString();
+		final String time = LocalTime
+				.now()
+				.toString();
+		final SearchDocument document = new SearchDocument(
+				source,
+				date,
+				time,
+				queued);
+		handler.writeDocument(document);
+		written = true;
+	}
+
+	@Override
+	protected void restart() throws IOException {
 		withMessage("Restarting", Level.INFO);
-		retrieved.clear();
+		if (handler == null) {
+			retrieved.clear();
+			withMessage("Restart completed", Level.INFO);
+			return;
+		}
 		try {
+			write();
 			handler.close();
-			handler = JsonHandler.acquireWriter(destination, _serializer);
+			handler = JsonHandler.acquireWriter(destination, _serializer, getFormat(), getCommit());
 		} catch (final IOException exception) {
 			withMessage("Restart failed", Level.SEVERE);
 			throw exception;
@@ -0,0 +1,141 @@
+package com.github.jelatinone.scholarfind.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ *
+ * <h1>ChunkedReaderTest</h1>
+ *
+ * <p>
+ * Verifies that a {@link ChunkedReader} yields every line of a file spanning
+ * several of its default sized chunks exactly once, in the order of the file when ordered, including
+ * a line which straddles the boundary of the first chunk, and skips a
+ * malformed line without losing its neighbours.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+class ChunkedReaderTest {
+	static int CHUNK_SIZE = 4 << 20;
+	static int CHUNKS = 3;
+
+	@TempDir
+	Path directory;
+
+	ObjectReader binder = new ObjectMapper().readerFor(JsonNode.class);
+
+	/**
+	 * Writes a file of indexed lines spanning several chunks, where the line
+	 * holding the end of the first chunk is long enough to straddle it, and a
+	 * malformed line sits in the second chunk.
+	 *
+	 * @param file File to write
+	 * @return Number of well formed lines written
+	 * @throws IOException When the file can not be written
+	 */
+	private int write(final File file) throws IOException {
+		final String padding = "x".repeat(1024);
+		long offset = 0;
+		int index = 0;
+		boolean straddled = false;
+		boolean malformed = false;
+		try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			while (offset < (long) CHUNKS * CHUNK_SIZE) {
+				final boolean straddling = !straddled && offset + 256 > CHUNK_SIZE;
+				final String line = String.format("{\"index\":%d,\"padding\":\"%s\"}\n", index,
+						straddling ? padding : "");
+				if (straddling) {
+					assertTrue(offset < CHUNK_SIZE
+							&& offset + line.length() > CHUNK_SIZE);
+					straddled = true;
+				} else if (!malformed && offset > CHUNK_SIZE + 1024) {
+					final String torn = "{\"index\":-1,\"padd\n";
+					writer.write(torn);
+					offset += torn.length();
+					malformed = true;
+				}
+				writer.write(line);
+				offset += line.length();
+				index++;
+			}
+		}
+		assertTrue(straddled && malformed);
+		return index;
+	}
+
+	/**
+	 * Reads the index of every line.
+	 *
+	 * @param reader Reader to drain
+	 * @return Indices in the order they were yielded
+	 * @throws IOException When the reader can not be closed
+	 */
+	private static List<Integer> drain(final ChunkedReader<JsonNode> reader) throws IOException {
+		final List<Integer> indices = new ArrayList<>();
+		try (reader) {
+			reader.forEachRemaining((element) -> indices.add(element.get("index").asInt()));
+		}
+		return indices;
+	}
+
+	private static List<Integer> range(final int count) {
+		final List<Integer> indices = new ArrayList<>(count);
+		for (int index = 0; index < count; index++) {
+			indices.add(index);
+		}
+		return indices;
+	}
+
+	@Test
+	void orderedReadYieldsFileOrder() throws IOException {
+		final File file = directory.resolve("ordered.ndjson").toFile();
+		final int count = write(file);
+		assertEquals(range(count), drain(new ChunkedReader<>(file, binder, 2, true)));
+	}
+
+	@Test
+	void unorderedReadYieldsEveryLineOnce() throws IOException {
+		final File file = directory.resolve("unordered.ndjson").toFile();
+		final int count = write(file);
+		final List<Integer> indices = drain(new ChunkedReader<>(file, binder, 4, false));
+		Collections.sort(indices);
+		assertEquals(range(count), indices);
+	}
+
+	@Test
+	void singleThreadReadMatchesChunkedRead() throws IOException {
+		final File file = directory.resolve("single.ndjson").toFile();
+		final int count = write(file);
+		final List<Integer> indices = new ArrayList<>();
+		try (JsonReader<JsonNode> reader = JsonHandler.streamContent(file, new ObjectMapper(), JsonNode.class, 1,
+				true)) {
+			reader.forEachRemaining((element) -> indices.add(element.get("index").asInt()));
+		}
+		assertEquals(range(count), indices);
+	}
+
+	@Test
+	void lastLineWithoutNewlineIsRead() throws IOException {
+		final File file = directory.resolve("unterminated.ndjson").toFile();
+		Files.writeString(file.toPath(), "{\"index\":0}\n\n{\"index\":1}", StandardCharsets.UTF_8);
+		assertEquals(range(2), drain(new ChunkedReader<>(file, binder, 2, true)));
+	}
+}
@@ -0,0 +1,113 @@
+package com.github.jelatinone.scholarfind.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ *
+ * <h1>JsonHandlerTest</h1>
+ *
+ * <p>
+ * Verifies that a {@link JsonHandler} recovers from a writer which did not
+ * finish: a torn last line of {@link JsonFormat#NDJSON newline delimited}
+ * output is skipped without swallowing the next document, and results moved
+ * {@link JsonHandler#DEFAULT_PREVIOUS_LOCATION aside} while rewriting a
+ * {@link JsonFormat#DOCUMENT document} are restored.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+class JsonHandlerTest {
+	static JsonSerializer<ObjectNode> SERIALIZER = (generator, document) -> generator.writeTree(document);
+
+	@TempDir
+	Path directory;
+
+	ObjectMapper mapper = new ObjectMapper();
+
+	private void write(final File file, final JsonFormat format, final int... indices) throws IOException {
+		final JsonHandler<ObjectNode> handler = JsonHandler.acquireWriter(file.getPath(), SERIALIZER, format);
+		try (handler) {
+			for (final int index : indices) {
+				handler.writeDocument(mapper.createObjectNode().put("index", index));
+			}
+		}
+	}
+
+	private List<Integer> read(final File file, final int parallelism) throws IOException {
+		final List<Integer> indices = new ArrayList<>();
+		try (JsonReader<JsonNode> reader = JsonHandler.streamContent(file, mapper, JsonNode.class, parallelism,
+				true)) {
+			reader.forEachRemaining((element) -> indices.add(element.get("index").asInt()));
+		}
+		return indices;
+	}
+
+	@Test
+	void reopenedDocumentKeepsResults() throws IOException {
+		final File file = directory.resolve("results.json").toFile();
+		write(file, JsonFormat.DOCUMENT, 0, 1);
+		write(file, JsonFormat.DOCUMENT, 2);
+		assertEquals(List.of(0, 1, 2), read(file, 1));
+		assertFalse(new File(String.format(JsonHandler.DEFAULT_PREVIOUS_LOCATION, file.getPath())).exists());
+	}
+
+	@Test
+	void tornLineIsSkipped() throws IOException {
+		final File file = directory.resolve("results.ndjson").toFile();
+		write(file, JsonFormat.NDJSON, 0, 1);
+		Files.writeString(file.toPath(), "{\"index\":-1,\"na", StandardCharsets.UTF_8,
+				StandardOpenOption.APPEND);
+
+		write(file, JsonFormat.NDJSON, 2);
+		final List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+		assertEquals(4, lines.size());
+		assertEquals("{\"index\":-1,\"na", lines.get(2));
+		assertEquals(List.of(0, 1, 2), read(file, 1));
+		assertEquals(List.of(0, 1, 2), read(file, 2));
+	}
+
+	@Test
+	void previousDocumentIsRecovered() throws IOException {
+		final File file = directory.resolve("results.json").toFile();
+		final File previous = new File(String.format(JsonHandler.DEFAULT_PREVIOUS_LOCATION, file.getPath()));
+		write(file, JsonFormat.DOCUMENT, 0, 1);
+
+		Files.move(file.toPath(), previous.toPath());
+		Files.writeString(file.toPath(), "{\"results\":[{\"index\":0}", StandardCharsets.UTF_8);
+
+		write(file, JsonFormat.DOCUMENT, 2);
+		assertFalse(previous.exists());
+		assertEquals(List.of(0, 1, 2), read(file, 1));
+	}
+
+	@Test
+	void previousDocumentIsRecoveredWithoutDestination() throws IOException {
+		final File file = directory.resolve("results.json").toFile();
+		final File previous = new File(String.format(JsonHandler.DEFAULT_PREVIOUS_LOCATION, file.getPath()));
+		write(file, JsonFormat.DOCUMENT, 0, 1);
+		Files.move(file.toPath(), previous.toPath());
+
+		write(file, JsonFormat.DOCUMENT);
+		assertTrue(file.exists());
+		assertFalse(previous.exists());
+		assertEquals(List.of(0, 1), read(file, 1));
+	}
+}
@@ -0,0 +1,85 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * <h1>HistogramTest</h1>
+ *
+ * <p>
+ * Verifies that {@link Histogram} percentiles are exact for small latencies,
+ * and otherwise fall within the relative error of a bucket.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+class HistogramTest {
+	static int SUB_BUCKETS = 8;
+
+	@Test
+	void emptyHistogramReportsZero() {
+		final Histogram histogram = new Histogram();
+		assertEquals(0, histogram.getCount());
+		assertEquals(Duration.ZERO, histogram.percentile(0.99));
+		assertEquals(Duration.ZERO, histogram.getMaximum());
+	}
+
+	@Test
+	void smallLatenciesAreExact() {
+		final Histogram histogram = new Histogram();
+		for (long nanoseconds = 0; nanoseconds < SUB_BUCKETS; nanoseconds++) {
+			histogram.record(nanoseconds);
+		}
+		assertEquals(Duration.ofNanos(0), histogram.percentile(0.0));
+		assertEquals(Duration.ofNanos(3), histogram.percentile(0.5));
+		assertEquals(Duration.ofNanos(7), histogram.percentile(1.0));
+	}
+
+	@Test
+	void percentilesFallWithinBucketError() {
+		final Histogram histogram = new Histogram();
+		for (long millisecond = 1; millisecond <= 1000; millisecond++) {
+			histogram.record(Duration.ofMillis(millisecond).toNanos());
+		}
+		assertEquals(1000, histogram.getCount());
+		for (final double fraction : new double[] { 0.5, 0.9, 0.99 }) {
+			final long exact = Duration.ofMillis(Math.round(fraction * 1000)).toNanos();
+			final long reported = histogram.percentile(fraction).toNanos();
+			assertTrue(reported >= exact, String.format("p%s %d < %d", fraction, reported, exact));
+			assertTrue(reported <= exact + exact / SUB_BUCKETS,
+					String.format("p%s %d exceeds %d by more than a bucket", fraction, reported, exact));
+		}
+		assertEquals(Duration.ofMillis(1000), histogram.percentile(1.0));
+		assertEquals(Duration.ofMillis(1000), histogram.getMaximum());
+	}
+
+	@Test
+	void bucketsCoverEveryLatency() {
+		for (long value = 0; value < 1 << 16; value++) {
+			final int index = Histogram.index(value);
+			assertTrue(Histogram.upperBound(index) >= value, String.valueOf(value));
+			assertTrue(index == 0 || Histogram.upperBound(index - 1) < value, String.valueOf(value));
+		}
+		assertTrue(Histogram.upperBound(Histogram.index(Long.MAX_VALUE)) == Long.MAX_VALUE);
+	}
+
+	@Test
+	void negativeLatenciesRecordAsZero() {
+		final Histogram histogram = new Histogram();
+		histogram.record(-5);
+		assertEquals(Duration.ZERO, histogram.percentile(1.0));
+	}
+
+	@Test
+	void rejectsInvalidFractions() {
+		final Histogram histogram = new Histogram();
+		assertThrows(IllegalArgumentException.class, () -> histogram.percentile(-0.1));
+		assertThrows(IllegalArgumentException.class, () -> histogram.percentile(1.1));
+	}
+}
@@ -0,0 +1,115 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * <h1>LimiterTest</h1>
+ *
+ * <p>
+ * Verifies that a {@link Limiter} bounds the operations in flight, and that an
+ * adaptive Limiter grows additively on healthy operations and shrinks
+ * multiplicatively, once per cooldown, on overloaded ones.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+class LimiterTest {
+	static Duration HEALTHY = Duration.ofMillis(1);
+
+	@Test
+	void fixedLimitNeverChanges() throws InterruptedException {
+		final Limiter limiter = Limiter.fixed(3);
+		assertFalse(limiter.isAdaptive());
+		limiter.acquire();
+		limiter.release(HEALTHY, false);
+		limiter.acquire();
+		limiter.release(HEALTHY, true);
+		assertEquals(3, limiter.getLimit());
+		assertEquals(0, limiter.getInFlight());
+	}
+
+	@Test
+	void acquireWaitsForRelease() throws InterruptedException {
+		final Limiter limiter = Limiter.fixed(1);
+		limiter.acquire();
+		final CountDownLatch acquired = new CountDownLatch(1);
+		final Thread waiter = new Thread(() -> {
+			try {
+				limiter.acquire();
+				acquired.countDown();
+			} catch (final InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		waiter.start();
+		assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+		limiter.release();
+		assertTrue(acquired.await(5, TimeUnit.SECONDS));
+		waiter.join();
+		assertEquals(1, limiter.getInFlight());
+	}
+
+	@Test
+	void healthyOperationsIncreaseAdditively() throws InterruptedException {
+		final Limiter limiter = Limiter.adaptive(1, 4);
+		limiter.acquire();
+		limiter.release(HEALTHY, false);
+		assertEquals(2, limiter.getLimit());
+		for (int operation = 0; operation < 2; operation++) {
+			limiter.acquire();
+			limiter.release(HEALTHY, false);
+		}
+		assertEquals(3, limiter.getLimit());
+		for (int operation = 0; operation < 100; operation++) {
+			limiter.acquire();
+			limiter.release(HEALTHY, false);
+		}
+		assertEquals(4, limiter.getLimit());
+	}
+
+	@Test
+	void overloadDecreasesOncePerCooldown() throws InterruptedException {
+		final Limiter limiter = Limiter.adaptive(16, 16);
+		limiter.acquire();
+		limiter.acquire();
+		limiter.release(HEALTHY, true);
+		assertEquals(8, limiter.getLimit());
+		limiter.release(HEALTHY, true);
+		assertEquals(8, limiter.getLimit());
+	}
+
+	@Test
+	void slowOperationsCountAsOverloaded() throws InterruptedException {
+		final Limiter limiter = Limiter.adaptive(8, 16);
+		limiter.acquire();
+		limiter.release(HEALTHY, false);
+		assertEquals(8, limiter.getLimit());
+		limiter.acquire();
+		limiter.release(HEALTHY.multipliedBy(10), false);
+		assertEquals(4, limiter.getLimit());
+	}
+
+	@Test
+	void decreaseStopsAtMinimum() throws InterruptedException {
+		final Limiter limiter = Limiter.adaptive(1, 4);
+		limiter.acquire();
+		limiter.release(HEALTHY, true);
+		assertEquals(1, limiter.getLimit());
+	}
+
+	@Test
+	void rejectsInvalidLimits() {
+		assertThrows(IllegalArgumentException.class, () -> Limiter.fixed(0));
+		assertThrows(IllegalArgumentException.class, () -> Limiter.adaptive(5, 4));
+	}
+}
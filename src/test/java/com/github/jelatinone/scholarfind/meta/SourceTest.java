@@ -0,0 +1,138 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * <h1>SourceTest</h1>
+ *
+ * <p>
+ * Verifies that a prefetched {@link Source} produces its elements on the pool
+ * it was given, in order, and surfaces failures and slow elements to the
+ * thread pulling from it.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+class SourceTest {
+	static int ELEMENTS = 1000;
+
+	@Test
+	void prefetchProducesInOrderOnPool() throws IOException {
+		final ExecutorService pool = Executors.newFixedThreadPool(2);
+		final Set<Thread> producers = ConcurrentHashMap.newKeySet();
+		final List<Integer> pulled = new ArrayList<>();
+		try (Source<Integer> source = Source.of(IntStream.range(0, ELEMENTS).boxed().toList())
+				.flatMap((Integer element) -> {
+					producers.add(Thread.currentThread());
+					return List.of(element).iterator();
+				})
+				.prefetch(pool, 16)) {
+			source.forEachRemaining(pulled::add);
+		} finally {
+			pool.shutdownNow();
+		}
+		assertEquals(IntStream.range(0, ELEMENTS).boxed().toList(), pulled);
+		assertFalse(producers.contains(Thread.currentThread()));
+	}
+
+	@Test
+	void prefetchRethrowsAfterEarlierElements() throws IOException {
+		final ExecutorService pool = Executors.newSingleThreadExecutor();
+		try (Source<Integer> source = Source.of(List.of(1, 2, 3))
+				.flatMap((Integer element) -> {
+					if (element == 3) {
+						throw new IllegalStateException("Malformed element");
+					}
+					return List.of(element).iterator();
+				})
+				.prefetch(pool, 8)) {
+			assertEquals(1, (int) source.next());
+			assertEquals(2, (int) source.next());
+			assertThrows(IllegalStateException.class, source::hasNext);
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void prefetchWaitsNoLongerThanAsked() throws IOException, InterruptedException {
+		final ExecutorService pool = Executors.newSingleThreadExecutor();
+		final CountDownLatch released = new CountDownLatch(1);
+		final Iterator<Integer> slow = new Iterator<>() {
+			boolean produced;
+
+			@Override
+			public boolean hasNext() {
+				return !produced;
+			}
+
+			@Override
+			public Integer next() {
+				try {
+					released.await();
+				} catch (final InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				}
+				produced = true;
+				return 1;
+			}
+		};
+		try (Source<Integer> source = Source.of(slow, () -> {
+		}).prefetch(pool, 4)) {
+			assertFalse(source.available(Duration.ofMillis(50)));
+			released.countDown();
+			assertTrue(source.available(Duration.ofSeconds(5)));
+			assertEquals(1, (int) source.next());
+			assertFalse(source.hasNext());
+		} finally {
+			pool.shutdownNow();
+			assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	void prefetchPullsNoMoreThanCapacityAhead() throws IOException, InterruptedException {
+		final ExecutorService pool = Executors.newSingleThreadExecutor();
+		final AtomicInteger produced = new AtomicInteger();
+		try (Source<Integer> source = Source.of(IntStream.range(0, ELEMENTS).boxed().toList())
+				.flatMap((Integer element) -> {
+					produced.incrementAndGet();
+					return List.of(element).iterator();
+				})
+				.prefetch(pool, 4)) {
+			for (int taken = 1; taken <= 8; taken++) {
+				source.next();
+				Thread.sleep(10);
+				assertTrue(produced.get() <= taken + 4);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void prefetchRejectsInvalidCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> Source.of(List.of(1)).prefetch(
+				Executors.newSingleThreadExecutor(), 0));
+	}
+}
@@ -0,0 +1,74 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * <h1>StateTest</h1>
+ *
+ * <p>
+ * Verifies the {@link State} transition table, exhaustively over every pair of
+ * States.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+class StateTest {
+	static Map<State, Set<State>> EXPECTED = Map.of(
+			State.CREATED, EnumSet.of(State.AWAITING_DEPENDENCIES, State.FAILED),
+			State.AWAITING_DEPENDENCIES, EnumSet.of(State.COLLECTING, State.RESTARTING, State.FAILED),
+			State.COLLECTING, EnumSet.of(State.OPERATING, State.RESTARTING, State.COMPLETED, State.FAILED),
+			State.OPERATING, EnumSet.of(State.PRODUCING_RESULT, State.RETRYING, State.RESTARTING, State.COMPLETED,
+					State.FAILED),
+			State.PRODUCING_RESULT, EnumSet.of(State.RETRYING, State.COMPLETED, State.FAILED),
+			State.RETRYING, EnumSet.of(State.OPERATING, State.RESTARTING, State.FAILED),
+			State.RESTARTING, EnumSet.of(State.AWAITING_DEPENDENCIES, State.FAILED),
+			State.COMPLETED, EnumSet.noneOf(State.class),
+			State.FAILED, EnumSet.noneOf(State.class));
+
+	@Test
+	void everyStateHasTransitions() {
+		assertEquals(EnumSet.allOf(State.class), EnumSet.copyOf(State._transitions.keySet()));
+	}
+
+	@Test
+	void precedesOnlyLegalTransitions() {
+		for (final State from : State.values()) {
+			for (final State to : State.values()) {
+				assertEquals(EXPECTED.get(from).contains(to), from.precedes(to),
+						String.format("%s -> %s", from, to));
+			}
+		}
+	}
+
+	@Test
+	void onlyCompletedAndFailedAreTerminal() {
+		for (final State state : State.values()) {
+			assertEquals(state == State.COMPLETED || state == State.FAILED, state.isTerminal(), state.name());
+		}
+	}
+
+	@Test
+	void everyLiveStateMayFail() {
+		for (final State state : State.values()) {
+			if (!state.isTerminal()) {
+				assertTrue(state.precedes(State.FAILED), state.name());
+			}
+		}
+	}
+
+	@Test
+	void noStatePrecedesCreated() {
+		for (final State state : State.values()) {
+			assertFalse(state.precedes(State.CREATED), state.name());
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package com.github.jelatinone.scholarfind.meta;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.ParseException;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * <h1>TaskTest</h1>
+ *
+ * <p>
+ * Verifies that a {@link Task} piped into from an upstream Task which has not
+ * yet completed releases a partial batch once its batch linger elapses, and
+ * retries a failed operand, rather than waiting for the upstream Task to
+ * complete.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+class TaskTest {
+
+	/**
+	 * Task which operates on strings, and records the size of every batch it
+	 * operates on.
+	 */
+	static class Echo extends Task<String, String> {
+		List<Integer> batches = new CopyOnWriteArrayList<>();
+		CountDownLatch operated = new CountDownLatch(3);
+		Set<String> failing = ConcurrentHashMap.newKeySet();
+		Iterator<String> collected;
+
+		Echo(final String name, final Iterator<String> collected, final String... arguments)
+				throws ParseException {
+			super(name);
+			this.collected = collected;
+			withConfiguration(new DefaultParser().parse(DEFAULT_OPTION_CONFIGURATION, arguments));
+		}
+
+		@Override
+		protected Source<String> collect() {
+			return Source.of(collected, () -> {
+			});
+		}
+
+		@Override
+		protected String operate(final String operand) {
+			batches.add(1);
+			if (failing.remove(operand)) {
+				throw new IllegalStateException(String.format("Failed once : %s", operand));
+			}
+			operated.countDown();
+			return operand;
+		}
+
+		@Override
+		protected List<String> operateBatch(final List<String> operands) {
+			batches.add(operands.size());
+			operands.forEach((operand) -> operated.countDown());
+			return operands;
+		}
+
+		@Override
+		protected boolean result(final String operand, final String produced) {
+			return true;
+		}
+
+		@Override
+		protected String adapt(final Object produced) {
+			return (String) produced;
+		}
+
+		@Override
+		protected void restart() throws IOException {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	/**
+	 * Provides a few elements, then waits for a given latch before reporting
+	 * that no more remain, as an upstream Task does while still running.
+	 *
+	 * @param released Latch to wait for
+	 * @return Iterator of held elements
+	 */
+	private static Iterator<String> held(final CountDownLatch released) {
+		return new Iterator<>() {
+			Iterator<String> elements = List.of("a", "b", "c").iterator();
+
+			@Override
+			public boolean hasNext() {
+				if (elements.hasNext()) {
+					return true;
+				}
+				try {
+					released.await();
+				} catch (final InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				}
+				return false;
+			}
+
+			@Override
+			public String next() {
+				if (!elements.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return elements.next();
+			}
+		};
+	}
+
+	/**
+	 * Runs a downstream Task piped into from an upstream Task which holds its
+	 * last element back until the downstream Task has operated on every element
+	 * it was piped.
+	 *
+	 * @param downstream Task to pipe into
+	 * @return Downstream Task, once completed
+	 * @throws Exception When either Task fails to run
+	 */
+	private static Echo pipe(final Echo downstream) throws Exception {
+		final Echo upstream = new Echo("upstream", held(downstream.operated), "--transient");
+		upstream.withPipe(downstream, Pipe.DEFAULT_PIPE_CAPACITY);
+
+		final Thread upstreamRunner = Thread.ofPlatform().start(upstream);
+		final Thread downstreamRunner = Thread.ofPlatform().start(downstream);
+		try {
+			assertTrue(downstream.operated.await(10, TimeUnit.SECONDS), "piped operands were never operated on");
+			downstream.completable().get(10, TimeUnit.SECONDS);
+			assertEquals(State.COMPLETED, downstream.getState());
+			return downstream;
+		} finally {
+			upstream.completable().cancel(true);
+			downstream.completable().cancel(true);
+			upstreamRunner.join();
+			downstreamRunner.join();
+		}
+	}
+
+	@Test
+	void lingerReleasesPartialBatchFromPipe() throws Exception {
+		final Echo downstream = pipe(new Echo("downstream", Collections.emptyIterator(), "--transient",
+				"--batchSize", "10", "--batchLinger", "50"));
+		assertEquals(3, downstream.batches.stream().mapToInt(Integer::intValue).sum());
+	}
+
+	@Test
+	void retryProceedsWhilePipeIsIdle() throws Exception {
+		final Echo downstream = new Echo("downstream", Collections.emptyIterator(), "--transient",
+				"--retryDelay", "10");
+		downstream.failing.add("a");
+		pipe(downstream);
+		assertEquals(1, downstream.getMetrics().getRetried());
+	}
+}
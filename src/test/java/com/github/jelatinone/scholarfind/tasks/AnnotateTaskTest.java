@@ -0,0 +1,40 @@
+package com.github.jelatinone.scholarfind.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URL;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jelatinone.scholarfind.meta.Priority;
+
+/**
+ *
+ * <h1>AnnotateTaskTest</h1>
+ *
+ * <p>
+ * Verifies that the host {@link Priority} of an {@link AnnotateTask} ranks
+ * operands by the requests still pending against their host, rather than by
+ * every request ever made to it.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+class AnnotateTaskTest {
+
+	@Test
+	void hostPriorityRanksByPendingOperands() throws Exception {
+		final Priority<URL> priority = AnnotateTask.hostPriority();
+		final URL first = new URL("https://busy.example/first");
+		final URL second = new URL("https://busy.example/second");
+		final URL other = new URL("https://quiet.example/first");
+
+		assertEquals(1.0, priority.rank(first));
+		assertEquals(2.0, priority.rank(second));
+		assertEquals(1.0, priority.rank(other));
+
+		priority.release(first);
+		priority.release(second);
+		assertEquals(1.0, priority.rank(new URL("https://BUSY.example/third")));
+	}
+}
@@ -0,0 +1,102 @@
+package com.github.jelatinone.scholarfind.tasks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.htmlunit.WebClient;
+import org.htmlunit.html.DomNode;
+import org.htmlunit.html.HtmlPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.jelatinone.scholarfind.json.JsonHandler;
+import com.github.jelatinone.scholarfind.json.JsonReader;
+
+/**
+ *
+ * <h1>SearchTaskTest</h1>
+ *
+ * <p>
+ * Verifies that a {@link SearchTask} never checkpoints an anchor before the URL
+ * it retrieved is written, so that neither a restart nor a run resumed after
+ * the process stopped without closing loses a retrieved URL.
+ * </p>
+ *
+ * @author Cody Washington
+ */
+class SearchTaskTest {
+	static List<String> LISTINGS = List.of("first.html", "second.html", "third.html");
+
+	@TempDir
+	Path directory;
+
+	String index;
+	String destination;
+
+	@BeforeEach
+	void setup() throws IOException {
+		final StringBuilder page = new StringBuilder("<html><body>");
+		for (final String listing : LISTINGS) {
+			page.append(String.format("<a href=\"%s\">%s</a>", listing, listing));
+		}
+		page.append("</body></html>");
+		final Path location = directory.resolve("index.html");
+		Files.writeString(location, page, StandardCharsets.UTF_8);
+		index = location.toUri().toString();
+		destination = directory.resolve("search.ndjson").toString();
+	}
+
+	private List<String> expected() throws IOException {
+		final List<String> urls = new ArrayList<>();
+		for (final String listing : LISTINGS) {
+			urls.add(new URL(new URL(index), listing).toString());
+		}
+		return urls;
+	}
+
+	private List<String> written() throws IOException {
+		final List<String> urls = new ArrayList<>();
+		try (JsonReader<JsonNode> reader = JsonHandler.streamContent(new File(destination), new ObjectMapper())) {
+			reader.forEachRemaining((document) -> document.get("retrieved")
+					.forEach((url) -> urls.add(url.asText())));
+		}
+		return urls;
+	}
+
+	@Test
+	void restartWritesQueuedResults() throws Exception {
+		try (WebClient client = new WebClient()) {
+			final HtmlPage page = client.getPage(index);
+			final DomNode anchor = page.querySelectorAll("a").get(0);
+			try (SearchTask task = new SearchTask("--from", index, "--to", destination, "--format", "ndjson")) {
+				task.result(anchor, new URL(expected().get(0)));
+				task.restart();
+			}
+		}
+		assertEquals(expected().subList(0, 1), written());
+	}
+
+	@Test
+	void resumeKeepsResultsOfCheckpointedAnchors() throws Exception {
+		// Never closed, as when the process stops before the search finishes
+		final SearchTask stopped = new SearchTask("--from", index, "--to", destination, "--format", "ndjson");
+		stopped.run();
+
+		try (SearchTask resumed = new SearchTask("--from", index, "--to", destination, "--format", "ndjson",
+				"--resume")) {
+			resumed.run();
+		}
+		assertEquals(expected(), written());
+	}
+}